@@ -0,0 +1,82 @@
+package com.example.todo_app.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import com.example.todo_app.config.GlobalExceptionHandler;
+import com.example.todo_app.module.Task.controller.TaskController;
+import com.example.todo_app.module.Task.dto.CreateTaskRequest;
+
+/**
+ * Error responses built by GlobalExceptionHandler. The "throw" variants include creating
+ * the exception (and its stack trace) the way controllers do when they rethrow.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private IllegalArgumentException illegalArgument;
+    private MethodArgumentNotValidException validation;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        illegalArgument = new IllegalArgumentException("Task not found with id: 42");
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(
+                new CreateTaskRequest("", null, false), "createTaskRequest");
+        bindingResult.addError(new FieldError("createTaskRequest", "title", "Title is required"));
+        MethodParameter parameter = new MethodParameter(TaskController.class.getMethod("createTask",
+                CreateTaskRequest.class, Authentication.class), 0);
+        validation = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> illegalArgument() {
+        return handler.handleIllegalArgumentException(illegalArgument);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> validation() {
+        return handler.handleValidationExceptions(validation);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> throwIllegalArgument() {
+        try {
+            throw new IllegalArgumentException("Task not found with id: 42");
+        } catch (IllegalArgumentException e) {
+            return handler.handleIllegalArgumentException(new IllegalArgumentException(e.getMessage()));
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> throwWrappedFailure() {
+        try {
+            throw new RuntimeException("Error retrieving task from database");
+        } catch (RuntimeException e) {
+            return handler.handleGeneralException(new RuntimeException("Failed to retrieve task: " + e.getMessage()));
+        }
+    }
+}
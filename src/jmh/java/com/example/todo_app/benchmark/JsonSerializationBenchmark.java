@@ -0,0 +1,77 @@
+package com.example.todo_app.benchmark;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import com.example.todo_app.module.Task.dto.TaskResponse;
+import com.example.todo_app.module.User.model.User;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Serialization of the paged bodies returned by GET /api/task/ and GET /api/user/.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({ "10", "100" })
+    private int pageSize;
+
+    private JsonMapper jsonMapper;
+    private Page<TaskResponse> taskPage;
+    private Page<User> userPage;
+
+    @Setup
+    public void setup() {
+        jsonMapper = JsonMapper.builder().build();
+
+        List<TaskResponse> tasks = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        Instant now = Instant.now();
+        for (long i = 1; i <= pageSize; i++) {
+            tasks.add(new TaskResponse(i, "Task " + i, "Description of task number " + i, i % 2 == 0,
+                    7L, "user7", now, i));
+
+            User user = new User();
+            user.setId(i);
+            user.setUsername("user" + i);
+            user.setEmail("user" + i + "@example.com");
+            user.setPassword("$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234");
+            user.setRole("USER");
+            users.add(user);
+        }
+        taskPage = new PageImpl<>(tasks, PageRequest.of(0, pageSize), 10_000);
+        userPage = new PageImpl<>(users, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public byte[] taskPage() {
+        return jsonMapper.writeValueAsBytes(taskPage);
+    }
+
+    @Benchmark
+    public byte[] userPage() {
+        return jsonMapper.writeValueAsBytes(userPage);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.todo_app.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.example.todo_app.config.CachingJwtAuthenticationManager;
+import com.example.todo_app.config.SecurityConfig;
+import com.example.todo_app.module.User.service.TokenService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Token work done on login and on every authenticated request: HS256 signing in
+ * TokenService, Nimbus decoding/verification, the role-to-authority converter and the
+ * verified-token cache in front of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private TokenService tokenService;
+    private JwtDecoder jwtDecoder;
+    private JwtAuthenticationConverter converter;
+    private CachingJwtAuthenticationManager cachingManager;
+    private JwtAuthenticationProvider provider;
+    private String token;
+    private Jwt jwt;
+
+    @Setup
+    public void setup() {
+        SecurityConfig securityConfig = new SecurityConfig();
+        ReflectionTestUtils.setField(securityConfig, "jwtSecret", "benchmark-secret-benchmark-secret-0123456789");
+
+        tokenService = new TokenService(securityConfig.jwtEncoder(), null, null);
+        ReflectionTestUtils.setField(tokenService, "accessTokenMinutes", 60L);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        jwtDecoder = securityConfig.jwtDecoder(meterRegistry);
+        converter = securityConfig.jwtAuthenticationConverter();
+
+        provider = new JwtAuthenticationProvider(jwtDecoder);
+        provider.setJwtAuthenticationConverter(converter);
+        cachingManager = new CachingJwtAuthenticationManager(provider, 10_000, Duration.ofMinutes(5),
+                meterRegistry);
+
+        token = tokenService.createAccessToken(42L, "benchmark", "USER");
+        jwt = jwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public String encode() {
+        return tokenService.createAccessToken(42L, "benchmark", "USER");
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return jwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Authentication convertAuthorities() {
+        return converter.convert(jwt);
+    }
+
+    @Benchmark
+    public Authentication authenticateUncached() {
+        return provider.authenticate(new BearerTokenAuthenticationToken(token));
+    }
+
+    @Benchmark
+    public Authentication authenticateCached() {
+        return cachingManager.authenticate(new BearerTokenAuthenticationToken(token));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.todo_app.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import com.example.todo_app.common.dto.PageResponse;
+import com.example.todo_app.module.Task.dto.TaskResponse;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Size and encoding time of a GET /api/task/ page in each wire format: Spring's Page as JSON
+ * (the old body), the PageResponse envelope as JSON, gzipped JSON, CBOR and Smile.
+ * Body sizes are printed once per fork during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadBenchmark {
+
+    @Param({ "10", "100" })
+    private int pageSize;
+
+    private JsonMapper jsonMapper;
+    private CBORMapper cborMapper;
+    private SmileMapper smileMapper;
+    private Page<TaskResponse> springPage;
+    private PageResponse<TaskResponse> envelope;
+
+    @Setup
+    public void setup() throws IOException {
+        jsonMapper = JsonMapper.builder().build();
+        cborMapper = CBORMapper.builder().build();
+        smileMapper = SmileMapper.builder().build();
+
+        List<TaskResponse> tasks = new ArrayList<>();
+        Instant now = Instant.now();
+        for (long i = 1; i <= pageSize; i++) {
+            tasks.add(new TaskResponse(i, "Task " + i, "Description of task number " + i, i % 2 == 0,
+                    7L, "user7", now, i));
+        }
+        springPage = new PageImpl<>(tasks, PageRequest.of(0, pageSize), 10_000);
+        envelope = PageResponse.of(springPage);
+
+        System.out.printf("%nBody bytes for %d tasks: page JSON %d, envelope JSON %d, gzip %d, CBOR %d, Smile %d%n",
+                pageSize, springPageJson().length, envelopeJson().length, envelopeJsonGzip().length,
+                envelopeCbor().length, envelopeSmile().length);
+    }
+
+    @Benchmark
+    public byte[] springPageJson() {
+        return jsonMapper.writeValueAsBytes(springPage);
+    }
+
+    @Benchmark
+    public byte[] envelopeJson() {
+        return jsonMapper.writeValueAsBytes(envelope);
+    }
+
+    @Benchmark
+    public byte[] envelopeJsonGzip() throws IOException {
+        return gzip(jsonMapper, envelope);
+    }
+
+    @Benchmark
+    public byte[] envelopeCbor() {
+        return cborMapper.writeValueAsBytes(envelope);
+    }
+
+    @Benchmark
+    public byte[] envelopeSmile() {
+        return smileMapper.writeValueAsBytes(envelope);
+    }
+
+    private static byte[] gzip(ObjectMapper mapper, Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            mapper.writeValue(gzip, value);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.todo_app.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import com.example.todo_app.TodoAppApplication;
+import com.example.todo_app.module.Task.dto.CursorPage;
+import com.example.todo_app.module.Task.dto.TaskFilter;
+import com.example.todo_app.module.Task.dto.TaskResponse;
+import com.example.todo_app.module.Task.model.Task;
+import com.example.todo_app.module.Task.repository.TaskRepositories;
+import com.example.todo_app.module.Task.service.TaskService;
+import com.example.todo_app.module.User.model.User;
+import com.example.todo_app.module.User.repository.UserRepositories;
+
+/**
+ * TaskService reads through the full JPA stack against an in-memory H2 database in MySQL
+ * mode. Absolute numbers are not comparable with MySQL; use them to spot regressions in
+ * query shape and mapping work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    @Param({ "1000" })
+    private int tasksPerUser;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Long userId;
+    private List<Long> taskIds;
+    private final Pageable firstPage = PageRequest.of(0, 20, Sort.by("id"));
+    private final Pageable deepPage = PageRequest.of(40, 20, Sort.by("id"));
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(TodoAppApplication.class).run(
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.show-sql=false",
+                "--spring.flyway.enabled=false",
+                "--app.seeding.enabled=false",
+                "--jwt.secret=benchmark-secret-benchmark-secret-0123456789",
+                "--server.port=0",
+                "--management.server.port=0",
+                "--logging.file.name=",
+                "--logging.level.root=WARN");
+        taskService = context.getBean(TaskService.class);
+
+        User user = new User();
+        user.setUsername("benchmark");
+        user.setEmail("benchmark@example.com");
+        user.setPassword("not-used");
+        user.setRole("USER");
+        userId = context.getBean(UserRepositories.class).save(user).getId();
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < tasksPerUser; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDescription("Benchmark task number " + i);
+            task.setCompleted(i % 3 == 0);
+            task.setCreateBy(user);
+            tasks.add(task);
+        }
+        taskIds = context.getBean(TaskRepositories.class).saveAll(tasks).stream().map(Task::getId).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskResponse getTaskById() {
+        return taskService.getTaskById(taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size())));
+    }
+
+    @Benchmark
+    public Page<TaskResponse> firstOffsetPage() {
+        return taskService.getTasksByUserId(userId, TaskFilter.NONE, firstPage);
+    }
+
+    @Benchmark
+    public Page<TaskResponse> deepOffsetPage() {
+        return taskService.getTasksByUserId(userId, TaskFilter.NONE, deepPage);
+    }
+
+    @Benchmark
+    public Slice<TaskResponse> deepSlicePage() {
+        return taskService.sliceTasksByUserId(userId, TaskFilter.NONE, deepPage);
+    }
+
+    @Benchmark
+    public CursorPage<TaskResponse> firstKeysetPage() {
+        return taskService.scrollTasksByUserId(userId, TaskFilter.NONE, null, firstPage);
+    }
+}
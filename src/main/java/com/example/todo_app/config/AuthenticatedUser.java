@@ -0,0 +1,30 @@
+package com.example.todo_app.config;
+
+import java.util.List;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * Principal produced by {@link CustomUserDetailsService}. Carries the user id and role
+ * so token minting doesn't need to look the user up again after authentication.
+ */
+public class AuthenticatedUser extends User {
+
+    private final Long id;
+    private final String role;
+
+    public AuthenticatedUser(Long id, String username, String password, String role) {
+        super(username, password, List.of(new SimpleGrantedAuthority(role)));
+        this.id = id;
+        this.role = role;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getRole() {
+        return role;
+    }
+}
@@ -1,14 +1,18 @@
 package com.example.todo_app.config;
 
+import java.util.List;
+
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import com.example.todo_app.module.User.model.User;
 import com.example.todo_app.module.User.repository.UserRepositories;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepositories userRepositories;
 
@@ -18,17 +22,30 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String usernameorEmail) throws UsernameNotFoundException {
-        User user = userRepositories.findByUsername(usernameorEmail)
-                .orElseGet(() -> userRepositories.findByEmail(usernameorEmail)
+        // One query for both columns; an exact username match wins over an email match
+        List<User> matches = userRepositories.findByUsernameOrEmail(usernameorEmail, usernameorEmail);
+        User user = matches.stream()
+                .filter(candidate -> usernameorEmail.equals(candidate.getUsername()))
+                .findFirst()
+                .orElseGet(() -> matches.stream()
+                        .findFirst()
                         .orElseThrow(() -> new UsernameNotFoundException(
                                 "User not found with username or email: " + usernameorEmail)));
         String role = user.getRole().toUpperCase();
 
-        return org.springframework.security.core.userdetails.User.builder()
-            .username(user.getUsername())
-            .password(user.getPassword())
-            .authorities(role)
-            .build();
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getPassword(), role);
+    }
+
+    /**
+     * Called after a successful login when the stored hash cost differs from the configured one.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        AuthenticatedUser authenticatedUser = (AuthenticatedUser) user;
+        userRepositories.updatePassword(authenticatedUser.getId(), newPassword);
+        return new AuthenticatedUser(authenticatedUser.getId(), authenticatedUser.getUsername(), newPassword,
+                authenticatedUser.getRole());
     }
 
 }
@@ -0,0 +1,19 @@
+package com.example.todo_app.config;
+
+/**
+ * Thrown when the password hashing pool and its queue are full.
+ * Mapped to 429 Too Many Requests with a Retry-After header.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingRejectedException(long retryAfterSeconds) {
+        super("Too many concurrent password operations, please retry later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.todo_app.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Registered through {@code hibernate.session_factory.statement_inspector}. Records the SQL
+ * text of each prepared statement so the same query repeated within one request (the N+1
+ * pattern) can be detected. The SQL is passed through unchanged.
+ */
+public class RepeatedStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatementStats stats = RequestStatementStats.current();
+        if (stats != null) {
+            stats.recordSql(sql);
+        }
+        return sql;
+    }
+}
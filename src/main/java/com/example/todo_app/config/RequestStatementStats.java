@@ -0,0 +1,74 @@
+package com.example.todo_app.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JDBC statements executed by Hibernate on the current request thread, and the time spent
+ * executing them. Filled in by {@link StatementCountingListener} (executions) and
+ * {@link RepeatedStatementInspector} (SQL text) between {@link #begin()} and {@link #end()};
+ * outside a request nothing is recorded.
+ */
+public final class RequestStatementStats {
+
+    private static final ThreadLocal<RequestStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+    private final Map<String, Integer> sqlCounts = new HashMap<>();
+    private boolean budgetChecked;
+
+    private RequestStatementStats() {
+    }
+
+    public static RequestStatementStats begin() {
+        RequestStatementStats stats = new RequestStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static RequestStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void record(long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+    }
+
+    void recordSql(String sql) {
+        sqlCounts.merge(sql, 1, Integer::sum);
+    }
+
+    /**
+     * The SQL prepared most often during the request, or null if none ran.
+     */
+    public Map.Entry<String, Integer> mostRepeated() {
+        return sqlCounts.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+
+    /**
+     * True the first time it's called, so a request is reported at most once.
+     */
+    boolean markBudgetChecked() {
+        if (budgetChecked) {
+            return false;
+        }
+        budgetChecked = true;
+        return true;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+}
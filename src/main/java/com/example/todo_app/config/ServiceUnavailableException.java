@@ -0,0 +1,12 @@
+package com.example.todo_app.config;
+
+/**
+ * Thrown when a feature is switched off or not ready yet, e.g. task search while its index loads.
+ * Mapped to 503 Service Unavailable.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
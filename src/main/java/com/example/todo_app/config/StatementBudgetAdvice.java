@@ -0,0 +1,45 @@
+package com.example.todo_app.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the statement headers right before a response body is written (after that the
+ * response is committed), and enforces the statement budget while an error can still be sent.
+ */
+@RestControllerAdvice
+public class StatementBudgetAdvice implements ResponseBodyAdvice<Object> {
+
+    private final StatementBudgetChecker statementBudgetChecker;
+
+    public StatementBudgetAdvice(StatementBudgetChecker statementBudgetChecker) {
+        this.statementBudgetChecker = statementBudgetChecker;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        RequestStatementStats stats = RequestStatementStats.current();
+        if (stats == null) {
+            return body;
+        }
+        response.getHeaders().set(StatementMetricsFilter.STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+        response.getHeaders().set(StatementMetricsFilter.TIME_HEADER, StatementMetricsFilter.millis(stats));
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            statementBudgetChecker.check(servletRequest.getServletRequest(), stats, true);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.todo_app.config;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Compares a request's statement count with its budget, and flags SQL repeated more than
+ * {@code max-repeats} times (usually lazy loading in a loop). Mode off|warn|fail; fail is
+ * meant for dev and test runs and only works while the response body hasn't been written.
+ */
+@Component
+public class StatementBudgetChecker {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementBudgetChecker.class);
+
+    enum Mode {
+        OFF, WARN, FAIL
+    }
+
+    private final Mode mode;
+
+    @Value("${app.db.statement-budget.max-statements:20}")
+    private int maxStatements;
+
+    @Value("${app.db.statement-budget.max-repeats:5}")
+    private int maxRepeats;
+
+    public StatementBudgetChecker(@Value("${app.db.statement-budget.mode:off}") String mode) {
+        this.mode = Mode.valueOf(mode.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Reports the request once. Throws {@link StatementBudgetExceededException} in fail mode
+     * when {@code mayFail} is set.
+     */
+    public void check(HttpServletRequest request, RequestStatementStats stats, boolean mayFail) {
+        if (mode == Mode.OFF || stats == null) {
+            return;
+        }
+        int budget = budgetFor(request);
+        Map.Entry<String, Integer> repeated = stats.mostRepeated();
+        boolean overBudget = stats.getStatements() > budget;
+        boolean repeating = repeated != null && repeated.getValue() > maxRepeats;
+        if ((!overBudget && !repeating) || !stats.markBudgetChecked()) {
+            return;
+        }
+
+        String endpoint = request.getMethod() + " " + endpoint(request);
+        String message = repeating
+                ? String.format("%s executed %d statements (budget %d); possible N+1, repeated %d times: %s",
+                        endpoint, stats.getStatements(), budget, repeated.getValue(), repeated.getKey())
+                : String.format("%s executed %d statements (budget %d)", endpoint, stats.getStatements(), budget);
+        logger.warn(message);
+        if (mode == Mode.FAIL && mayFail) {
+            throw new StatementBudgetExceededException(message);
+        }
+    }
+
+    private int budgetFor(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            StatementBudget budget = AnnotatedElementUtils.findMergedAnnotation(handler.getMethod(),
+                    StatementBudget.class);
+            if (budget == null) {
+                budget = AnnotatedElementUtils.findMergedAnnotation(handler.getBeanType(), StatementBudget.class);
+            }
+            if (budget != null) {
+                return budget.value();
+            }
+        }
+        return maxStatements;
+    }
+
+    static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.todo_app.config;
+
+public class StatementBudgetExceededException extends RuntimeException {
+
+    public StatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.todo_app.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Registered for every Hibernate session through {@code hibernate.session.events.auto}.
+ * Each executed statement (or JDBC batch) counts once toward the request's
+ * {@link RequestStatementStats}.
+ */
+public class StatementCountingListener implements SessionEventListener {
+
+    private long started;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        started = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        started = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        RequestStatementStats stats = RequestStatementStats.current();
+        if (stats != null) {
+            stats.record(System.nanoTime() - started);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.todo_app.config;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records how many SQL statements each request executed, and how long they took, per
+ * endpoint (same uri/method tags as http.server.requests). The totals are also sent as
+ * X-DB-Statements / X-DB-Time-Ms headers and put in the MDC as db.statements / db.timeMs.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementMetricsFilter.class);
+
+    static final String STATEMENTS_HEADER = "X-DB-Statements";
+    static final String TIME_HEADER = "X-DB-Time-Ms";
+
+    private final MeterRegistry meterRegistry;
+    private final StatementBudgetChecker statementBudgetChecker;
+
+    public StatementMetricsFilter(MeterRegistry meterRegistry, StatementBudgetChecker statementBudgetChecker) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudgetChecker = statementBudgetChecker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStatementStats stats = RequestStatementStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatementStats.end();
+            String uri = StatementBudgetChecker.endpoint(request);
+
+            // Responses with a body got the headers from StatementBudgetAdvice before being committed
+            if (!response.isCommitted()) {
+                response.setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+                response.setHeader(TIME_HEADER, millis(stats));
+            }
+            statementBudgetChecker.check(request, stats, false);
+
+            DistributionSummary.builder("http.server.requests.db.statements")
+                    .description("SQL statements executed per request")
+                    .tag("uri", uri)
+                    .tag("method", request.getMethod())
+                    .register(meterRegistry)
+                    .record(stats.getStatements());
+            Timer.builder("http.server.requests.db.time")
+                    .description("Time spent executing SQL per request")
+                    .tag("uri", uri)
+                    .tag("method", request.getMethod())
+                    .register(meterRegistry)
+                    .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+
+            MDC.put("db.statements", String.valueOf(stats.getStatements()));
+            MDC.put("db.timeMs", millis(stats));
+            try {
+                logger.debug("{} {} executed {} statements in {} ms", request.getMethod(), uri,
+                        stats.getStatements(), millis(stats));
+            } finally {
+                MDC.remove("db.statements");
+                MDC.remove("db.timeMs");
+            }
+        }
+    }
+
+    static String millis(RequestStatementStats stats) {
+        return String.format(Locale.ROOT, "%.1f", stats.getNanos() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.todo_app.config;
+
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Row-count estimates from the database's table statistics (information_schema.TABLES.TABLE_ROWS),
+ * for admin listings that show a total without paying for COUNT(*). InnoDB's figure is sampled
+ * and cached, so it can be off by a large fraction; empty when the database has no such statistic.
+ */
+@Component
+public class TableStatistics {
+    private static final Logger logger = LoggerFactory.getLogger(TableStatistics.class);
+
+    private static final String ESTIMATE_SQL = "SELECT TABLE_ROWS FROM information_schema.TABLES "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TableStatistics(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public OptionalLong estimatedRowCount(String table) {
+        try {
+            Long rows = jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class, table);
+            return rows != null ? OptionalLong.of(rows) : OptionalLong.empty();
+        } catch (DataAccessException e) {
+            logger.debug("No row estimate for table {}: {}", table, e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Page over {@code slice} with the table's estimate as total ({@code exactCount} when there is
+     * none). The estimate is raised to the rows the slice proves exist, so a low figure never hides
+     * the next page; once the slice has no next page the total is exact.
+     */
+    public <T> Page<T> estimatedPage(Slice<T> slice, String table, LongSupplier exactCount) {
+        long offset = slice.getPageable().getOffset();
+        long seen = offset + slice.getNumberOfElements();
+        long total;
+        if (slice.hasNext()) {
+            total = Math.max(estimatedRowCount(table).orElseGet(exactCount), seen + 1);
+        } else if (slice.hasContent() || offset == 0) {
+            total = seen;
+        } else {
+            // Past the last page: at most offset rows
+            total = Math.min(estimatedRowCount(table).orElseGet(exactCount), offset);
+        }
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+}
@@ -1,60 +1,204 @@
 package com.example.todo_app.module.Task.controller;
 
-import org.springframework.data.domain.Page;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springdoc.core.annotations.ParameterObject;
+import com.example.todo_app.common.dto.PageResponse;
+import com.example.todo_app.config.ServiceUnavailableException;
+import com.example.todo_app.config.StatementBudget;
+import com.example.todo_app.module.Task.dto.BatchTaskRequest;
+import com.example.todo_app.module.Task.dto.BatchTaskResponse;
 import com.example.todo_app.module.Task.dto.CreateTaskRequest;
+import com.example.todo_app.module.Task.dto.PatchTaskRequest;
+import com.example.todo_app.module.Task.dto.TaskChanges;
+import com.example.todo_app.module.Task.dto.TaskFilter;
+import com.example.todo_app.module.Task.dto.TaskResponse;
+import com.example.todo_app.module.Task.dto.TaskSearchResult;
+import com.example.todo_app.module.Task.dto.TaskStatsOverview;
 import com.example.todo_app.module.Task.dto.UpdateTaskRequest;
+import com.example.todo_app.module.Task.service.TaskEventBus;
+import com.example.todo_app.module.Task.service.TaskExportWriter;
+import com.example.todo_app.module.Task.service.TaskSearchIndex;
 import com.example.todo_app.module.Task.service.TaskService;
-import com.example.todo_app.module.Task.model.Task;
+import com.example.todo_app.module.Task.service.TaskStatsService;
 
 import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/task")
 public class TaskController {
+    // Let browsers keep responses but revalidate them with If-None-Match on every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final TaskService taskService;
+    private final TaskEventBus taskEventBus;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskStatsService taskStatsService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskEventBus taskEventBus, TaskSearchIndex taskSearchIndex,
+            TaskStatsService taskStatsService) {
         this.taskService = taskService;
+        this.taskEventBus = taskEventBus;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskStatsService = taskStatsService;
     }
 
+    /**
+     * Listings carry a weak ETag computed from the page the query returned, so no extra query
+     * runs for it; a matching If-None-Match gets a 304 without a body.
+     */
     @GetMapping("/")
-    public Page<Task> getAllTasks(Authentication authentication, @ParameterObject @PageableDefault(size = 10) Pageable pageable) {
+    public ResponseEntity<Object> getAllTasks(Authentication authentication,
+            @RequestParam(defaultValue = "offset") String paging,
+            @RequestParam(defaultValue = "exact") String count,
+            @RequestParam(required = false) String after,
+            @ParameterObject TaskFilter filter,
+            @ParameterObject @PageableDefault(size = 10) Pageable pageable,
+            WebRequest webRequest) {
         try {
             Jwt jwt = (Jwt) authentication.getPrincipal();
             Long userId = jwt.getClaim("userId");
-            if (hasRole(authentication, "ADMIN")) {
-                return taskService.getAllTasks(pageable);
+            boolean admin = hasRole(authentication, "ADMIN");
+            boolean approximateCount = approximateCount(count, paging, admin);
+            Object body;
+            switch (paging.toLowerCase()) {
+                case "offset":
+                    body = PageResponse.of(admin ? taskService.getAllTasks(filter, pageable, approximateCount)
+                            : taskService.getTasksByUserId(userId, filter, pageable));
+                    break;
+                case "slice":
+                    body = PageResponse.of(admin ? taskService.sliceAllTasks(filter, pageable)
+                            : taskService.sliceTasksByUserId(userId, filter, pageable));
+                    break;
+                case "keyset":
+                    body = admin ? taskService.scrollAllTasks(filter, after, pageable)
+                            : taskService.scrollTasksByUserId(userId, filter, after, pageable);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported paging mode: " + paging);
             }
-            return taskService.getTasksByUserId(userId, pageable);
+
+            String etag = listETag(body);
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag).body(body);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage());
         } catch (Exception e) {
             throw new RuntimeException("Failed to retrieve tasks: " + e.getMessage());
         }
     }
 
+    @GetMapping("/changes")
+    public TaskChanges getChanges(@RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit, Authentication authentication) {
+        try {
+            return taskService.getChanges(ownerScope(authentication), since, limit);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to retrieve task changes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * The caller's task counts, plus the counts over all tasks for admins.
+     */
+    @GetMapping("/stats")
+    public TaskStatsOverview getStats(Authentication authentication) {
+        try {
+            Jwt jwt = (Jwt) authentication.getPrincipal();
+            Long userId = jwt.getClaim("userId");
+            return new TaskStatsOverview(taskStatsService.getStats(userId),
+                    hasRole(authentication, "ADMIN") ? taskStatsService.getGlobalStats() : null);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to retrieve task stats: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Full-text search over the caller's tasks (all tasks for admins), answered from memory.
+     */
+    @GetMapping("/search")
+    public TaskSearchResult searchTasks(@RequestParam String q, @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+        try {
+            return taskSearchIndex.search(ownerScope(authentication), q, limit);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        } catch (ServiceUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to search tasks: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Server-sent events for the caller's tasks (all tasks for admins): created, updated,
+     * deleted, and reset when Last-Event-ID can't be replayed.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTasks(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            Authentication authentication) {
+        return taskEventBus.subscribe(ownerScope(authentication), lastEventId);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "ndjson") String format,
+            Authentication authentication) {
+        TaskExportWriter writer = TaskExportWriter.of(format);
+        Long ownerId = ownerScope(authentication);
+        StreamingResponseBody body = outputStream -> taskService.exportTasks(ownerId, writer, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(writer.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + writer.getExtension() + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
-    public Task getTaskById(@PathVariable Long id) {
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, WebRequest webRequest) {
         try {
-            return taskService.getTaskById(id);
+            TaskResponse task = taskService.getTaskById(id);
+            String etag = taskETag(task);
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag).body(task);
         } catch (Exception e) {
             throw new RuntimeException("Failed to retrieve task: " + e.getMessage());
         }
     }
 
     @PostMapping("/")
-    public Task createTask(@Valid @RequestBody CreateTaskRequest request, Authentication authentication) {
+    public TaskResponse createTask(@Valid @RequestBody CreateTaskRequest request, Authentication authentication) {
         try {
             Jwt jwt = (Jwt) authentication.getPrincipal();
             Long userId = jwt.getClaim("userId");
@@ -66,26 +210,138 @@ public class TaskController {
         }
     }
 
+    // Up to 500 items: several JDBC batches plus the target lookup and tombstones
+    @StatementBudget(100)
+    @PostMapping("/batch")
+    public BatchTaskResponse batchTasks(@Valid @RequestBody BatchTaskRequest request, Authentication authentication) {
+        try {
+            Jwt jwt = (Jwt) authentication.getPrincipal();
+            Long userId = jwt.getClaim("userId");
+            return taskService.batchTasks(request, userId, hasRole(authentication, "ADMIN"));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to apply task batch: " + e.getMessage());
+        }
+    }
+
     @PutMapping("/{id}")
-    public Task updateTask(@PathVariable Long id, @Valid @RequestBody UpdateTaskRequest request) {
+    public ResponseEntity<TaskResponse> updateTask(@PathVariable Long id, @Valid @RequestBody UpdateTaskRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            Authentication authentication) {
         try {
-            return taskService.updateTask(id, request);
+            TaskResponse task = taskService.updateTask(id, request, ownerScope(authentication),
+                    expectedVersion(id, ifMatch));
+            return ResponseEntity.ok().eTag(taskETag(task)).body(task);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to update task: " + e.getMessage());
+        }
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskResponse> patchTask(@PathVariable Long id, @Valid @RequestBody PatchTaskRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            Authentication authentication) {
+        try {
+            TaskResponse task = taskService.patchTask(id, request, ownerScope(authentication),
+                    expectedVersion(id, ifMatch));
+            return ResponseEntity.ok().eTag(taskETag(task)).body(task);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Failed to update task: " + e.getMessage());
         }
     }
 
     @DeleteMapping("/{id}")
-    public void deleteTask(@PathVariable Long id) {
+    public void deleteTask(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            Authentication authentication) {
         try {
-            taskService.deleteTask(id);
+            taskService.deleteTask(id, ownerScope(authentication), expectedVersion(id, ifMatch));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Failed to delete task: " + e.getMessage());
         }
     }
 
+    /**
+     * count=approximate swaps COUNT(*) for table statistics; it only applies to admins' offset pages.
+     */
+    private static boolean approximateCount(String count, String paging, boolean admin) {
+        switch (count.toLowerCase()) {
+            case "exact":
+                return false;
+            case "approximate":
+                if (!admin || !"offset".equalsIgnoreCase(paging)) {
+                    throw new IllegalArgumentException("count=approximate is only available to admins with offset paging");
+                }
+                return true;
+            default:
+                throw new IllegalArgumentException("Unsupported count mode: " + count);
+        }
+    }
+
+    private static String taskETag(TaskResponse task) {
+        return "\"" + task.id() + "-" + task.version() + "\"";
+    }
+
+    /**
+     * Digest of the page body (every field of its tasks, totals and next cursor), so any change in
+     * what the client would receive changes the tag. It is weak: Tomcat doesn't compress responses
+     * with a strong ETag, and lists are the large bodies.
+     */
+    private static String listETag(Object body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(body.toString().getBytes(StandardCharsets.UTF_8));
+            return "W/\"tasks-" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Version demanded by an If-Match header, or null when there is none (or "*").
+     * A tag that can't be the current one of this task fails the precondition outright.
+     */
+    static Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.contains(",")) {
+            throw new IllegalArgumentException("If-Match must contain a single entity tag");
+        }
+        String prefix = "\"" + id + "-";
+        if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+            try {
+                return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // falls through to the precondition failure
+            }
+        }
+        throw new OptimisticLockingFailureException("If-Match " + tag + " does not match task " + id);
+    }
+
+    /**
+     * Owner restriction for writes: the caller's id, or null for admins (any owner).
+     */
+    private Long ownerScope(Authentication authentication) {
+        if (hasRole(authentication, "ADMIN")) {
+            return null;
+        }
+        Jwt jwt = (Jwt) authentication.getPrincipal();
+        return jwt.getClaim("userId");
+    }
+
     private boolean hasRole(Authentication authentication, String role) {
         return authentication.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_" + role));
@@ -0,0 +1,12 @@
+package com.example.todo_app.module.Task.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+
+public record BatchTaskRequest(
+        @Valid @Size(max = 500, message = "At most 500 creates per batch") List<CreateTaskRequest> create,
+        @Valid @Size(max = 500, message = "At most 500 updates per batch") List<BatchUpdateTaskItem> update,
+        @Size(max = 500, message = "At most 500 deletes per batch") List<Long> delete) {
+}
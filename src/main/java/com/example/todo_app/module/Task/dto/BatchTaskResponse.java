@@ -0,0 +1,12 @@
+package com.example.todo_app.module.Task.dto;
+
+import java.util.List;
+
+public record BatchTaskResponse(List<ItemResult> results) {
+
+    /**
+     * Outcome of one operation; {@code index} is its position in the request array.
+     */
+    public record ItemResult(String operation, int index, Long id, String status) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.todo_app.module.Task.dto;
+
+import java.util.List;
+
+public record CursorPage<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+}
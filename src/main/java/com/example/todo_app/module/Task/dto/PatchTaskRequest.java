@@ -0,0 +1,16 @@
+package com.example.todo_app.module.Task.dto;
+
+import jakarta.validation.constraints.Size;
+
+/**
+ * Partial update: only non-null fields are written.
+ */
+public record PatchTaskRequest(
+        @Size(min = 2, max = 100, message = "Title must be between 2 and 100 characters") String title,
+        @Size(min = 5, max = 500, message = "Description must be between 5 and 500 characters") String description,
+        Boolean completed) {
+
+    public boolean isEmpty() {
+        return title == null && description == null && completed == null;
+    }
+}
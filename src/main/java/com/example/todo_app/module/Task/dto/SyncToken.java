@@ -0,0 +1,45 @@
+package com.example.todo_app.module.Task.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Opaque delta-sync position: the last (updatedAt, id) upsert and (deletedAt, id) tombstone
+ * a client has seen, plus when the token was issued.
+ */
+public record SyncToken(Instant upsertedAt, long upsertedId, Instant deletedAt, long deletedId, Instant issuedAt) {
+
+    public static final SyncToken INITIAL = new SyncToken(Instant.EPOCH, 0, Instant.EPOCH, 0, Instant.EPOCH);
+
+    public static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 5) {
+                throw new IllegalArgumentException("Invalid sync token");
+            }
+            return new SyncToken(
+                    fromMicros(Long.parseLong(parts[0])), Long.parseLong(parts[1]),
+                    fromMicros(Long.parseLong(parts[2])), Long.parseLong(parts[3]),
+                    fromMicros(Long.parseLong(parts[4])));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid sync token: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = toMicros(upsertedAt) + ":" + upsertedId + ":" + toMicros(deletedAt) + ":" + deletedId + ":"
+                + toMicros(issuedAt);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long toMicros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private static Instant fromMicros(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.todo_app.module.Task.dto;
+
+import java.util.List;
+
+/**
+ * Delta-sync response. When {@code resetRequired} is true the client's deletion cursor is
+ * older than the tombstone retention window, so deletions it hasn't seen may have been purged
+ * and it must resync from scratch (call without a token).
+ */
+public record TaskChanges(
+        List<TaskResponse> upserted,
+        List<Long> deleted,
+        String nextToken,
+        boolean hasMore,
+        boolean resetRequired) {
+}
@@ -0,0 +1,84 @@
+package com.example.todo_app.module.Task.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Opaque keyset position for task listings.
+ * Holds the sort key value and id of the last row returned so the next page can
+ * seek past it instead of using OFFSET.
+ */
+public record TaskCursor(String property, Sort.Direction direction, String value, Long id) {
+
+    /**
+     * Sortable properties. Each one, followed by id, is an index both with and without the owner
+     * prefix (V1, V3 and V4 migrations), so every listing reads in index order instead of sorting.
+     */
+    public static final List<String> SORT_KEYS = List.of("id", "updatedAt", "title");
+
+    /**
+     * The single requested sort order, or id ascending. Anything else would need a filesort.
+     */
+    public static Sort.Order sortOrder(Sort sort) {
+        if (sort.isUnsorted()) {
+            return Sort.Order.asc("id");
+        }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() > 1 || !SORT_KEYS.contains(orders.get(0).getProperty())) {
+            throw new IllegalArgumentException("Tasks can only be sorted by one of: " + SORT_KEYS);
+        }
+        Sort.Order order = orders.get(0);
+        if (order.isIgnoreCase()) {
+            throw new IllegalArgumentException("Case-insensitive sorting is not supported");
+        }
+        return order;
+    }
+
+    /**
+     * The order followed by id in the same direction, matching the index and keeping pages stable.
+     */
+    public static Sort indexedSort(Sort.Order order) {
+        return "id".equals(order.getProperty())
+                ? Sort.by(order)
+                : Sort.by(order, new Sort.Order(order.getDirection(), "id"));
+    }
+
+    public static TaskCursor of(TaskResponse task, Sort.Order order) {
+        String value = switch (order.getProperty()) {
+            case "title" -> task.title();
+            case "updatedAt" -> task.updatedAt().toString();
+            default -> String.valueOf(task.id());
+        };
+        return new TaskCursor(order.getProperty(), order.getDirection(), value, task.id());
+    }
+
+    public static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 4);
+            if (parts.length != 4 || !SORT_KEYS.contains(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            if ("updatedAt".equals(parts[0])) {
+                Instant.parse(parts[3]);
+            }
+            return new TaskCursor(parts[0], Sort.Direction.valueOf(parts[1]), parts[3], Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public boolean matches(Sort.Order order) {
+        return property.equals(order.getProperty()) && direction == order.getDirection();
+    }
+
+    public String encode() {
+        String raw = property + ":" + direction.name() + ":" + id + ":" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
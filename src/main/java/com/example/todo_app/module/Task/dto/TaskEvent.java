@@ -0,0 +1,27 @@
+package com.example.todo_app.module.Task.dto;
+
+/**
+ * Change pushed on the task stream. {@code task} is null for deletions.
+ */
+public record TaskEvent(
+        String type,
+        Long taskId,
+        Long ownerId,
+        TaskResponse task) {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    public static TaskEvent created(TaskResponse task) {
+        return new TaskEvent(CREATED, task.id(), task.ownerId(), task);
+    }
+
+    public static TaskEvent updated(TaskResponse task) {
+        return new TaskEvent(UPDATED, task.id(), task.ownerId(), task);
+    }
+
+    public static TaskEvent deleted(Long taskId, Long ownerId) {
+        return new TaskEvent(DELETED, taskId, ownerId, null);
+    }
+}
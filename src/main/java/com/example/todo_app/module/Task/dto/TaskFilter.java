@@ -0,0 +1,18 @@
+package com.example.todo_app.module.Task.dto;
+
+import java.time.Instant;
+
+/**
+ * Optional listing filters, bound from query parameters. Id bounds are inclusive;
+ * the updatedAt range includes {@code updatedFrom} and excludes {@code updatedTo}.
+ */
+public record TaskFilter(
+        Boolean completed,
+        String titlePrefix,
+        Long minId,
+        Long maxId,
+        Instant updatedFrom,
+        Instant updatedTo) {
+
+    public static final TaskFilter NONE = new TaskFilter(null, null, null, null, null, null);
+}
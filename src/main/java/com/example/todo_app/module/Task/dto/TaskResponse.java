@@ -0,0 +1,32 @@
+package com.example.todo_app.module.Task.dto;
+
+import java.time.Instant;
+
+import com.example.todo_app.module.Task.model.Task;
+
+/**
+ * Read model for task endpoints: task columns plus the owner's id and username only,
+ * so responses never carry the owner's email, role or password hash.
+ */
+public record TaskResponse(
+        Long id,
+        String title,
+        String description,
+        boolean completed,
+        Long ownerId,
+        String ownerUsername,
+        Instant updatedAt,
+        Long version) {
+
+    public static TaskResponse from(Task task) {
+        return new TaskResponse(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.isCompleted(),
+                task.getCreateBy().getId(),
+                task.getCreateBy().getUsername(),
+                task.getUpdatedAt(),
+                task.getVersion());
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.todo_app.module.Task.dto;
+
+import java.util.List;
+
+/**
+ * Best-ranked matches for a search; {@code total} counts every match, not just the returned ones.
+ */
+public record TaskSearchResult(
+        String query,
+        int total,
+        List<TaskResponse> items) {
+}
@@ -0,0 +1,9 @@
+package com.example.todo_app.module.Task.dto;
+
+/**
+ * Response of GET /api/task/stats; {@code global} is only filled in for admins.
+ */
+public record TaskStatsOverview(
+        TaskStatsResponse user,
+        TaskStatsResponse global) {
+}
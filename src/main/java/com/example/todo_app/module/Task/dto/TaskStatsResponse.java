@@ -0,0 +1,20 @@
+package com.example.todo_app.module.Task.dto;
+
+/**
+ * Task counts of one owner, or of all tasks when {@code userId} is null.
+ */
+public record TaskStatsResponse(
+        Long userId,
+        long total,
+        long completed,
+        long open) {
+
+    // Totals over all owners
+    public TaskStatsResponse(long total, long completed) {
+        this(null, total, completed, total - completed);
+    }
+
+    public static TaskStatsResponse of(Long userId, long total, long completed) {
+        return new TaskStatsResponse(userId, total, completed, total - completed);
+    }
+}
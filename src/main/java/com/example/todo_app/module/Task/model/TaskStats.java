@@ -0,0 +1,48 @@
+package com.example.todo_app.module.Task.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Maintained task counters of one owner. TaskService applies deltas in the same transaction
+ * as each write; TaskStatsService periodically recounts them from the task table.
+ */
+@Entity
+@Table(name = "task_stats")
+public class TaskStats {
+    @Id
+    @Column(name = "user_id")
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Column(nullable = false)
+    private long completed;
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+}
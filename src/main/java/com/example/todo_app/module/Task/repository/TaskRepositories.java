@@ -1,12 +1,78 @@
 package com.example.todo_app.module.Task.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import com.example.todo_app.module.Task.dto.TaskResponse;
 import com.example.todo_app.module.Task.model.Task;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
-public interface TaskRepositories extends JpaRepository<Task, Long> {
-    Page<Task> findByCreateById(Long userId, Pageable pageable);
+public interface TaskRepositories extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoriesCustom {
+
+    String SELECT_RESPONSE = "select new com.example.todo_app.module.Task.dto.TaskResponse("
+            + "t.id, t.title, t.description, t.completed, u.id, u.username, t.updatedAt, t.version) "
+            + "from Task t join t.createBy u";
+
+    @Query(SELECT_RESPONSE + " where t.id = :id")
+    Optional<TaskResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * A null ownerId matches tasks of any owner; a null expectedVersion skips the version check.
+     * Only matches while the row's completed flag equals {@code wasCompleted}, so the affected
+     * row count tells whether the write flipped it.
+     */
+    @Modifying
+    @Query("update Task t set t.title = :title, t.description = :description, t.completed = :completed, "
+            + "t.version = t.version + 1, t.updatedAt = :updatedAt "
+            + "where t.id = :id and (:ownerId is null or t.createBy.id = :ownerId) "
+            + "and (:expectedVersion is null or t.version = :expectedVersion) "
+            + "and t.completed = :wasCompleted")
+    int updateOwned(@Param("id") Long id, @Param("ownerId") Long ownerId,
+            @Param("expectedVersion") Long expectedVersion, @Param("wasCompleted") boolean wasCompleted,
+            @Param("title") String title, @Param("description") String description,
+            @Param("completed") boolean completed, @Param("updatedAt") Instant updatedAt);
+
+    @Query("select t.createBy.id from Task t where t.id = :id")
+    Optional<Long> findOwnerIdById(@Param("id") Long id);
+
+    /**
+     * Locks only tasks of the given owner (any owner when null).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id in :ids and (:ownerId is null or t.createBy.id = :ownerId)")
+    List<Task> findAllOwnedByIdForUpdate(@Param("ids") Collection<Long> ids, @Param("ownerId") Long ownerId);
+
+    /**
+     * Upserts for delta sync, in (updatedAt, id) order after the given position.
+     * A null ownerId matches tasks of any owner.
+     */
+    @Query(SELECT_RESPONSE + " where (:ownerId is null or t.createBy.id = :ownerId) "
+            + "and (t.updatedAt > :since or (t.updatedAt = :since and t.id > :afterId)) "
+            + "and t.updatedAt <= :until "
+            + "order by t.updatedAt, t.id")
+    List<TaskResponse> findChangedSince(@Param("ownerId") Long ownerId, @Param("since") Instant since,
+            @Param("afterId") Long afterId, @Param("until") Instant until, Pageable pageable);
+
+    /**
+     * Only matches while the row's completed flag equals {@code completed}, so the caller learns
+     * the flag of the deleted row from the affected row count.
+     */
+    @Modifying
+    @Query("delete from Task t where t.id = :id and (:ownerId is null or t.createBy.id = :ownerId) "
+            + "and (:expectedVersion is null or t.version = :expectedVersion) and t.completed = :completed")
+    int deleteOwned(@Param("id") Long id, @Param("ownerId") Long ownerId,
+            @Param("expectedVersion") Long expectedVersion, @Param("completed") boolean completed);
 }
@@ -0,0 +1,26 @@
+package com.example.todo_app.module.Task.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.todo_app.module.Task.dto.PatchTaskRequest;
+import com.example.todo_app.module.Task.dto.TaskResponse;
+import com.example.todo_app.module.Task.model.Task;
+
+public interface TaskRepositoriesCustom {
+    List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit);
+
+    Page<TaskResponse> findResponses(Specification<Task> spec, Pageable pageable);
+
+    Slice<TaskResponse> findResponseSlice(Specification<Task> spec, Pageable pageable);
+
+    Stream<TaskResponse> streamResponses(Specification<Task> spec, int fetchSize);
+
+    int patch(Long id, Long ownerId, Long expectedVersion, Boolean wasCompleted, PatchTaskRequest patch);
+}
@@ -0,0 +1,159 @@
+package com.example.todo_app.module.Task.repository;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.example.todo_app.module.Task.dto.PatchTaskRequest;
+import com.example.todo_app.module.Task.dto.TaskResponse;
+import com.example.todo_app.module.Task.model.Task;
+import com.example.todo_app.module.User.model.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class TaskRepositoriesCustomImpl implements TaskRepositoriesCustom {
+
+    private final EntityManager entityManager;
+
+    public TaskRepositoriesCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit) {
+        return entityManager.createQuery(responseQuery(spec, sort))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Offset page; the count query is skipped when the page shows the total already
+     * (first page not full, or last page).
+     */
+    @Override
+    public Page<TaskResponse> findResponses(Specification<Task> spec, Pageable pageable) {
+        List<TaskResponse> content = entityManager.createQuery(responseQuery(spec, pageable.getSort()))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    /**
+     * Offset page without a count: one extra row is read to tell whether a next page exists.
+     */
+    @Override
+    public Slice<TaskResponse> findResponseSlice(Specification<Task> spec, Pageable pageable) {
+        int size = pageable.getPageSize();
+        List<TaskResponse> rows = entityManager.createQuery(responseQuery(spec, pageable.getSort()))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(size + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+    }
+
+    private long count(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Forward-only stream ordered by id. Rows are DTOs, so nothing accumulates in the
+     * persistence context; with MySQL a fetch size of Integer.MIN_VALUE streams row by row.
+     */
+    @Override
+    public Stream<TaskResponse> streamResponses(Specification<Task> spec, int fetchSize) {
+        return entityManager.createQuery(responseQuery(spec, Sort.by("id")))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private CriteriaQuery<TaskResponse> responseQuery(Specification<Task> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> root = query.from(Task.class);
+        Join<Task, User> owner = root.join("createBy");
+
+        query.select(cb.construct(TaskResponse.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("completed"),
+                owner.get("id"),
+                owner.get("username"),
+                root.get("updatedAt"),
+                root.get("version")));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return query;
+    }
+
+    /**
+     * Single UPDATE that only sets the columns present in the patch.
+     * A null ownerId matches tasks of any owner; a null expectedVersion skips the version check.
+     * A non-null wasCompleted only matches rows whose completed flag has that value.
+     */
+    @Override
+    public int patch(Long id, Long ownerId, Long expectedVersion, Boolean wasCompleted, PatchTaskRequest patch) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+
+        if (patch.title() != null) {
+            update.set(root.<String>get("title"), patch.title());
+        }
+        if (patch.description() != null) {
+            update.set(root.<String>get("description"), patch.description());
+        }
+        if (patch.completed() != null) {
+            update.set(root.<Boolean>get("completed"), patch.completed());
+        }
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.set(root.<Instant>get("updatedAt"), Instant.now().truncatedTo(ChronoUnit.MICROS));
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("id"), id));
+        if (ownerId != null) {
+            predicates.add(cb.equal(root.get("createBy").get("id"), ownerId));
+        }
+        if (expectedVersion != null) {
+            predicates.add(cb.equal(root.get("version"), expectedVersion));
+        }
+        if (wasCompleted != null) {
+            predicates.add(cb.equal(root.get("completed"), wasCompleted));
+        }
+        update.where(predicates.toArray(Predicate[]::new));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
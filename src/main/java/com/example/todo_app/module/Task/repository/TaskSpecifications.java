@@ -0,0 +1,89 @@
+package com.example.todo_app.module.Task.repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.todo_app.module.Task.dto.TaskCursor;
+import com.example.todo_app.module.Task.dto.TaskFilter;
+import com.example.todo_app.module.Task.model.Task;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("createBy").get("id"), userId);
+    }
+
+    /**
+     * One predicate per filter that is set. Each one is a range or equality on an indexed
+     * column (after the owner), so the filtered listings stay index scans.
+     */
+    public static List<Specification<Task>> matching(TaskFilter filter) {
+        List<Specification<Task>> specs = new ArrayList<>();
+        if (filter.completed() != null) {
+            specs.add((root, query, cb) -> cb.equal(root.get("completed"), filter.completed()));
+        }
+        if (filter.titlePrefix() != null) {
+            String pattern = escapeLike(filter.titlePrefix()) + "%";
+            specs.add((root, query, cb) -> cb.like(root.get("title"), pattern, '\\'));
+        }
+        if (filter.minId() != null) {
+            specs.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("id"), filter.minId()));
+        }
+        if (filter.maxId() != null) {
+            specs.add((root, query, cb) -> cb.lessThanOrEqualTo(root.get("id"), filter.maxId()));
+        }
+        if (filter.updatedFrom() != null) {
+            specs.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.<Instant>get("updatedAt"),
+                    filter.updatedFrom()));
+        }
+        if (filter.updatedTo() != null) {
+            specs.add((root, query, cb) -> cb.lessThan(root.<Instant>get("updatedAt"), filter.updatedTo()));
+        }
+        return specs;
+    }
+
+    /**
+     * Seek predicate for keyset paging: rows strictly after the cursor in (sort key, id) order.
+     */
+    public static Specification<Task> after(TaskCursor cursor) {
+        return (root, query, cb) -> {
+            boolean ascending = cursor.direction().isAscending();
+            Path<Long> id = root.get("id");
+            if ("id".equals(cursor.property())) {
+                return beyond(cb, id, cursor.id(), ascending);
+            }
+            if ("updatedAt".equals(cursor.property())) {
+                return seek(cb, root.<Instant>get("updatedAt"), Instant.parse(cursor.value()), id, cursor.id(),
+                        ascending);
+            }
+            return seek(cb, root.<String>get(cursor.property()), cursor.value(), id, cursor.id(), ascending);
+        };
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate seek(CriteriaBuilder cb, Path<Y> key, Y value,
+            Path<Long> id, Long lastId, boolean ascending) {
+        return cb.or(
+                beyond(cb, key, value, ascending),
+                cb.and(cb.equal(key, value), beyond(cb, id, lastId, ascending)));
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate beyond(CriteriaBuilder cb,
+            Expression<? extends Y> path, Y value, boolean ascending) {
+        return ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.todo_app.module.Task.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.example.todo_app.module.Task.dto.TaskStatsResponse;
+import com.example.todo_app.module.Task.model.TaskStats;
+
+@Repository
+public interface TaskStatsRepositories extends JpaRepository<TaskStats, Long> {
+
+    /**
+     * Adds the deltas to the owner's counters, creating the row on the owner's first task.
+     * VALUES() rather than a row alias so the statement also runs on H2 in MySQL mode.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_stats (user_id, total, completed) VALUES (:ownerId, :total, :completed) "
+            + "ON DUPLICATE KEY UPDATE total = total + VALUES(total), completed = completed + VALUES(completed)",
+            nativeQuery = true)
+    int increment(@Param("ownerId") Long ownerId, @Param("total") long total, @Param("completed") long completed);
+
+    @Query("select new com.example.todo_app.module.Task.dto.TaskStatsResponse("
+            + "coalesce(sum(s.total), 0L), coalesce(sum(s.completed), 0L)) from TaskStats s")
+    TaskStatsResponse sumAll();
+
+    /**
+     * Recounts the owners in [fromOwnerId, toOwnerId] from the (user_id, completed) index.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_stats (user_id, total, completed) "
+            + "SELECT user_id, COUNT(*), SUM(CASE WHEN completed = TRUE THEN 1 ELSE 0 END) FROM task "
+            + "WHERE user_id BETWEEN :fromOwnerId AND :toOwnerId GROUP BY user_id "
+            + "ON DUPLICATE KEY UPDATE total = VALUES(total), completed = VALUES(completed)",
+            nativeQuery = true)
+    int recount(@Param("fromOwnerId") Long fromOwnerId, @Param("toOwnerId") Long toOwnerId);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_stats WHERE user_id BETWEEN :fromOwnerId AND :toOwnerId "
+            + "AND NOT EXISTS (SELECT 1 FROM task t WHERE t.user_id = task_stats.user_id)",
+            nativeQuery = true)
+    int deleteWithoutTasks(@Param("fromOwnerId") Long fromOwnerId, @Param("toOwnerId") Long toOwnerId);
+
+    @Query(value = "SELECT GREATEST(COALESCE((SELECT MAX(user_id) FROM task_stats), 0), "
+            + "COALESCE((SELECT MAX(user_id) FROM task), 0))", nativeQuery = true)
+    Long findMaxOwnerId();
+}
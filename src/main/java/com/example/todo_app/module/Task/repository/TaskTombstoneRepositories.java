@@ -0,0 +1,27 @@
+package com.example.todo_app.module.Task.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.example.todo_app.module.Task.model.TaskTombstone;
+
+@Repository
+public interface TaskTombstoneRepositories extends JpaRepository<TaskTombstone, Long> {
+
+    @Query("select tt from TaskTombstone tt where (:ownerId is null or tt.ownerId = :ownerId) "
+            + "and (tt.deletedAt > :since or (tt.deletedAt = :since and tt.id > :afterId)) "
+            + "and tt.deletedAt <= :until "
+            + "order by tt.deletedAt, tt.id")
+    List<TaskTombstone> findDeletedSince(@Param("ownerId") Long ownerId, @Param("since") Instant since,
+            @Param("afterId") Long afterId, @Param("until") Instant until, Pageable pageable);
+
+    @Modifying
+    @Query("delete from TaskTombstone tt where tt.deletedAt < :before")
+    int deleteOlderThan(@Param("before") Instant before);
+}
@@ -0,0 +1,207 @@
+package com.example.todo_app.module.Task.seeder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data seeder khối lượng lớn cho môi trường performance (app.bulk-seed.enabled=true)
+ * Tạo loaduser1..N, mỗi user có M task, bằng INSERT nhiều dòng qua JDBC, chạy song song theo chunk
+ * Tất cả user dùng chung một password hash tính trước; id được cấp trước nên các chunk không đụng nhau
+ */
+@Component
+@Order(3)  // Chạy sau UserSeeder và TaskSeeder
+public class BulkDataSeeder implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkDataSeeder.class);
+
+    private static final String USERNAME_PREFIX = "loaduser";
+    private static final int TASK_SEQUENCE_INCREMENT = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${app.bulk-seed.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.bulk-seed.users:10000}")
+    private int userCount;
+
+    @Value("${app.bulk-seed.tasks-per-user:100}")
+    private int tasksPerUser;
+
+    @Value("${app.bulk-seed.password:password123}")
+    private String password;
+
+    @Value("${app.bulk-seed.rows-per-insert:1000}")
+    private int rowsPerInsert;
+
+    @Value("${app.bulk-seed.users-per-chunk:500}")
+    private int usersPerChunk;
+
+    @Value("${app.bulk-seed.threads:0}")
+    private int threads;
+
+    public BulkDataSeeder(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (!enabled) {
+            return;
+        }
+
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE username = ?",
+                Integer.class, USERNAME_PREFIX + "1");
+        if (existing != null && existing > 0) {
+            logger.info("Bulk seed data already exists. Skipping seeding.");
+            return;
+        }
+
+        boolean h2 = "H2".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        long firstUserId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Long.class) + 1;
+        long firstTaskId = firstFreeTaskId(h2);
+        long totalTasks = (long) userCount * tasksPerUser;
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        logger.info("Bulk seeding {} users and {} tasks on {} threads...", userCount, totalTasks, workers);
+        long start = System.currentTimeMillis();
+
+        // Hash một lần: BCrypt cho từng user sẽ mất hàng giờ
+        String passwordHash = passwordEncoder.encode(password);
+        Timestamp now = Timestamp.from(Instant.now().truncatedTo(ChronoUnit.MICROS));
+        AtomicLong usersDone = new AtomicLong();
+        AtomicLong tasksDone = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (int from = 0; from < userCount; from += usersPerChunk) {
+                int chunkFrom = from;
+                int chunkTo = Math.min(from + usersPerChunk, userCount);
+                chunks.add(executor.submit(() -> {
+                    transactionTemplate.executeWithoutResult(status -> seedChunk(chunkFrom, chunkTo, firstUserId,
+                            firstTaskId, passwordHash, now));
+                    logProgress(usersDone.addAndGet(chunkTo - chunkFrom),
+                            tasksDone.addAndGet((long) (chunkTo - chunkFrom) * tasksPerUser), totalTasks, start);
+                }));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        advanceIdGenerators(h2, firstUserId + userCount, firstTaskId + totalTasks);
+        logger.info("Bulk seeding completed in {} s", (System.currentTimeMillis() - start) / 1000);
+    }
+
+    /**
+     * Users [from, to) của toàn bộ tập, cùng toàn bộ task của họ
+     */
+    private void seedChunk(int from, int to, long firstUserId, long firstTaskId, String passwordHash,
+            Timestamp now) {
+        List<Object[]> users = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            String username = USERNAME_PREFIX + (i + 1);
+            users.add(new Object[] { firstUserId + i, username, username + "@loadtest.local", passwordHash, "USER" });
+        }
+        insertRows("users", "id, username, email, password, role", users);
+
+        List<Object[]> tasks = new ArrayList<>(rowsPerInsert);
+        for (int i = from; i < to; i++) {
+            long userId = firstUserId + i;
+            for (int j = 0; j < tasksPerUser; j++) {
+                long taskId = firstTaskId + (long) i * tasksPerUser + j;
+                tasks.add(new Object[] { taskId, "Task " + (j + 1) + " of " + USERNAME_PREFIX + (i + 1),
+                        "Generated task number " + (j + 1) + " for performance testing", j % 4 == 0, userId, 0L,
+                        now });
+                if (tasks.size() == rowsPerInsert) {
+                    insertRows("task", "id, title, description, completed, user_id, version, updated_at", tasks);
+                    tasks.clear();
+                }
+            }
+        }
+        if (!tasks.isEmpty()) {
+            insertRows("task", "id, title, description, completed, user_id, version, updated_at", tasks);
+        }
+    }
+
+    /**
+     * Một câu INSERT nhiều dòng cho mỗi tối đa rowsPerInsert dòng
+     */
+    private void insertRows(String table, String columns, List<Object[]> rows) {
+        for (int offset = 0; offset < rows.size(); offset += rowsPerInsert) {
+            List<Object[]> slice = rows.subList(offset, Math.min(offset + rowsPerInsert, rows.size()));
+            int width = slice.get(0).length;
+            String placeholders = "(" + "?, ".repeat(width - 1) + "?)";
+
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                    .append(" (").append(columns).append(") VALUES ");
+            Object[] args = new Object[slice.size() * width];
+            for (int r = 0; r < slice.size(); r++) {
+                sql.append(r == 0 ? "" : ", ").append(placeholders);
+                System.arraycopy(slice.get(r), 0, args, r * width, width);
+            }
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+
+    /**
+     * Task id đầu tiên không nằm trong block mà Hibernate có thể đã lấy từ task_seq
+     */
+    private long firstFreeTaskId(boolean h2) {
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM task", Long.class);
+        Long sequenceNext = h2
+                ? jdbcTemplate.queryForObject("SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES "
+                        + "WHERE LOWER(SEQUENCE_NAME) = 'task_seq'", Long.class)
+                : jdbcTemplate.queryForObject("SELECT next_val FROM task_seq", Long.class);
+        return Math.max(maxId + 1, sequenceNext != null ? sequenceNext : 1);
+    }
+
+    /**
+     * Đẩy id generator qua khỏi các id đã chèn trực tiếp
+     */
+    private void advanceIdGenerators(boolean h2, long nextUserId, long nextTaskId) {
+        // Pooled optimizer: giá trị đọc được là đầu trên của block 50 id
+        long taskSequenceValue = nextTaskId + TASK_SEQUENCE_INCREMENT;
+        if (h2) {
+            jdbcTemplate.execute("ALTER TABLE users ALTER COLUMN id RESTART WITH " + nextUserId);
+            jdbcTemplate.execute("ALTER SEQUENCE task_seq RESTART WITH " + taskSequenceValue);
+        } else {
+            // MySQL: AUTO_INCREMENT của users tự theo id lớn nhất
+            jdbcTemplate.update("UPDATE task_seq SET next_val = GREATEST(next_val, ?)", taskSequenceValue);
+        }
+    }
+
+    private void logProgress(long users, long tasks, long totalTasks, long start) {
+        double seconds = Math.max(System.currentTimeMillis() - start, 1) / 1000.0;
+        double rate = tasks / seconds;
+        logger.info("Bulk seed progress: {}/{} users, {}/{} tasks ({} tasks/s, ~{} s left)", users, userCount,
+                tasks, totalTasks, Math.round(rate), Math.round((totalTasks - tasks) / rate));
+    }
+}
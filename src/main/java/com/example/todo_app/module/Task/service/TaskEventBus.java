@@ -0,0 +1,248 @@
+package com.example.todo_app.module.Task.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.example.todo_app.module.Task.dto.TaskEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-process fan-out of committed task changes to SSE subscribers.
+ *
+ * Every subscriber has a bounded queue drained on a virtual thread of its own, so a slow
+ * client blocks neither the writer that published the event nor the other subscribers. A
+ * subscriber whose queue overflows is disconnected and resumes through Last-Event-ID,
+ * replayed from a ring buffer of recent events. Event ids are "bootId-sequence"; when the id comes from another process or has
+ * already left the ring buffer, the client gets a "reset" event and should reload its tasks.
+ */
+@Component
+public class TaskEventBus {
+    private static final Logger logger = LoggerFactory.getLogger(TaskEventBus.class);
+
+    static final String RESET = "reset";
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final Deque<Entry> replayBuffer = new ArrayDeque<>();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final ExecutorService sender;
+    private final Counter droppedCounter;
+    private long sequence;
+
+    @Value("${app.task-stream.timeout:PT30M}")
+    private Duration timeout;
+
+    @Value("${app.task-stream.subscriber-buffer:256}")
+    private int subscriberBuffer;
+
+    @Value("${app.task-stream.replay-buffer:1000}")
+    private int replayBufferSize;
+
+    public TaskEventBus(MeterRegistry meterRegistry) {
+        // One cheap thread per running drain: a send stuck on a stalled connection holds only its own
+        this.sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-stream-", 1).factory());
+
+        Gauge.builder("task.stream.subscribers", subscriptions, List::size)
+                .description("Open task stream connections")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("task.stream.dropped")
+                .description("Task stream connections closed because their buffer overflowed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of changes to the given owner's tasks, or to all tasks when ownerId is
+     * null. Events after {@code lastEventId} are replayed first.
+     */
+    public SseEmitter subscribe(Long ownerId, String lastEventId) {
+        return subscribe(new SseEmitter(timeout.toMillis()), ownerId, lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, Long ownerId, String lastEventId) {
+        Subscription subscription = new Subscription(emitter, ownerId, subscriberBuffer);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> close(subscription));
+        emitter.onError(error -> close(subscription));
+
+        // Replay and registration happen under the publish lock so no event is missed or sent twice
+        synchronized (replayBuffer) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                List<Entry> missed = missedSince(lastEventId, ownerId);
+                if (missed == null || missed.size() > subscriberBuffer) {
+                    subscription.queue.offer(new Entry(sequence, null));
+                } else {
+                    missed.forEach(subscription.queue::offer);
+                }
+            }
+            subscriptions.add(subscription);
+        }
+        drain(subscription);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(TaskEvent event) {
+        synchronized (replayBuffer) {
+            Entry entry = new Entry(++sequence, event);
+            replayBuffer.addLast(entry);
+            while (replayBuffer.size() > replayBufferSize) {
+                replayBuffer.removeFirst();
+            }
+            for (Subscription subscription : subscriptions) {
+                if (subscription.accepts(event) && !subscription.queue.offer(entry)) {
+                    droppedCounter.increment();
+                    logger.debug("Task stream subscriber fell behind; closing it");
+                    subscription.overflowed.set(true);
+                }
+            }
+        }
+        for (Subscription subscription : subscriptions) {
+            drain(subscription);
+        }
+    }
+
+    /**
+     * Comment lines keep idle connections (and proxies in between) from timing out. Skipped
+     * while a send is in progress, so heartbeats don't pile up behind a stalled connection.
+     */
+    @Scheduled(fixedDelayString = "${app.task-stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.queue.isEmpty() && subscription.draining.compareAndSet(false, true)) {
+                sender.execute(() -> {
+                    try {
+                        send(subscription, SseEmitter.event().comment("heartbeat"));
+                    } finally {
+                        subscription.draining.set(false);
+                    }
+                    drain(subscription);
+                });
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+        sender.shutdownNow();
+    }
+
+    /**
+     * Events after the given id visible to the owner, or null when they can't be replayed.
+     */
+    private List<Entry> missedSince(String lastEventId, Long ownerId) {
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !lastEventId.substring(0, dash).equals(bootId)) {
+            return null;
+        }
+        long last;
+        try {
+            last = Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        Entry oldest = replayBuffer.peekFirst();
+        if (last > sequence || (oldest != null && last < oldest.sequence() - 1)) {
+            return null;
+        }
+
+        List<Entry> missed = new ArrayList<>();
+        for (Entry entry : replayBuffer) {
+            if (entry.sequence() > last && (ownerId == null || ownerId.equals(entry.event().ownerId()))) {
+                missed.add(entry);
+            }
+        }
+        return missed;
+    }
+
+    private void drain(Subscription subscription) {
+        if (subscription.overflowed.get()) {
+            close(subscription);
+            return;
+        }
+        if (subscription.queue.isEmpty() || !subscription.draining.compareAndSet(false, true)) {
+            return;
+        }
+        sender.execute(() -> {
+            try {
+                Entry entry;
+                while ((entry = subscription.queue.poll()) != null) {
+                    String id = bootId + "-" + entry.sequence();
+                    SseEmitter.SseEventBuilder event = entry.event() == null
+                            ? SseEmitter.event().id(id).name(RESET).data(RESET)
+                            : SseEmitter.event().id(id).name(entry.event().type())
+                                    .data(entry.event(), MediaType.APPLICATION_JSON);
+                    if (!send(subscription, event)) {
+                        return;
+                    }
+                }
+            } finally {
+                subscription.draining.set(false);
+            }
+            // An event may have arrived between the last poll and releasing the flag
+            drain(subscription);
+        });
+    }
+
+    private boolean send(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        try {
+            subscription.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            close(subscription);
+            return false;
+        }
+    }
+
+    private void close(Subscription subscription) {
+        if (subscriptions.remove(subscription)) {
+            subscription.queue.clear();
+            subscription.emitter.complete();
+        }
+    }
+
+    /**
+     * A null event marks a reset.
+     */
+    private record Entry(long sequence, TaskEvent event) {
+    }
+
+    private static final class Subscription {
+        private final SseEmitter emitter;
+        private final Long ownerId;
+        private final Queue<Entry> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+
+        private Subscription(SseEmitter emitter, Long ownerId, int capacity) {
+            this.emitter = emitter;
+            this.ownerId = ownerId;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        private boolean accepts(TaskEvent event) {
+            return ownerId == null || ownerId.equals(event.ownerId());
+        }
+    }
+}
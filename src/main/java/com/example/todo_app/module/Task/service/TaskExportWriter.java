@@ -0,0 +1,89 @@
+package com.example.todo_app.module.Task.service;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.example.todo_app.module.Task.dto.TaskResponse;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Serializes exported tasks one row at a time, as NDJSON or CSV.
+ */
+public enum TaskExportWriter {
+
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        void writeRow(Writer writer, TaskResponse task, JsonMapper jsonMapper) throws IOException {
+            writer.write(jsonMapper.writeValueAsString(task));
+            writer.write('\n');
+        }
+    },
+
+    CSV("text/csv", "csv") {
+        @Override
+        void writeHeader(Writer writer) throws IOException {
+            writer.write("id,title,description,completed,ownerId,ownerUsername,updatedAt,version\r\n");
+        }
+
+        @Override
+        void writeRow(Writer writer, TaskResponse task, JsonMapper jsonMapper) throws IOException {
+            writer.write(String.valueOf(task.id()));
+            writer.write(',');
+            writer.write(escape(task.title()));
+            writer.write(',');
+            writer.write(escape(task.description()));
+            writer.write(',');
+            writer.write(String.valueOf(task.completed()));
+            writer.write(',');
+            writer.write(String.valueOf(task.ownerId()));
+            writer.write(',');
+            writer.write(escape(task.ownerUsername()));
+            writer.write(',');
+            writer.write(String.valueOf(task.updatedAt()));
+            writer.write(',');
+            writer.write(String.valueOf(task.version()));
+            writer.write("\r\n");
+        }
+    };
+
+    private final String contentType;
+    private final String extension;
+
+    TaskExportWriter(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static TaskExportWriter of(String format) {
+        for (TaskExportWriter writer : values()) {
+            if (writer.extension.equalsIgnoreCase(format)) {
+                return writer;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + format);
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    void writeHeader(Writer writer) throws IOException {
+    }
+
+    abstract void writeRow(Writer writer, TaskResponse task, JsonMapper jsonMapper) throws IOException;
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
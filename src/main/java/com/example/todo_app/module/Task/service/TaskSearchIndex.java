@@ -0,0 +1,333 @@
+package com.example.todo_app.module.Task.service;
+
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.example.todo_app.config.ServiceUnavailableException;
+import com.example.todo_app.module.Task.dto.TaskEvent;
+import com.example.todo_app.module.Task.dto.TaskResponse;
+import com.example.todo_app.module.Task.dto.TaskSearchResult;
+import com.example.todo_app.module.Task.model.Task;
+import com.example.todo_app.module.Task.repository.TaskRepositories;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-process inverted index over task titles and descriptions, so search never hits the DB.
+ *
+ * Loaded from the repository on a background thread once the application is ready and kept
+ * current from committed task events; searches get 503 until the load finishes, or always
+ * when app.search.enabled is false (no memory is then spent on the index). Postings live
+ * in a sorted term map per owner, so a query term matches every indexed term it is a
+ * prefix of. All query terms must match; exact terms rank above prefix matches and title
+ * terms above description terms. Text is lower-cased and stripped of diacritics, so "viec"
+ * finds "Việc".
+ */
+@Component
+public class TaskSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MAX_TERM_LENGTH = 40;
+    private static final int MAX_QUERY_TERMS = 8;
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(hit -> hit.task().updatedAt(), Comparator.nullsLast(Comparator.<Instant>reverseOrder()))
+            .thenComparing(hit -> hit.task().id(), Comparator.<Long>reverseOrder());
+
+    private final TaskRepositories taskRepositories;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<Long, NavigableMap<String, Map<Long, Integer>>> postingsByOwner = new HashMap<>();
+    // Deletions seen during the initial load, whose snapshot may still contain the deleted rows
+    private final Set<Long> deletedWhileLoading = new HashSet<>();
+    private boolean loading;
+    private volatile boolean ready;
+
+    @Value("${app.export.fetch-size:-2147483648}")
+    private int fetchSize;
+
+    @Value("${app.search.max-results:100}")
+    private int maxResults;
+
+    @Value("${app.search.enabled:true}")
+    private boolean enabled;
+
+    public TaskSearchIndex(TaskRepositories taskRepositories, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.taskRepositories = taskRepositories;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Gauge.builder("task.search.documents", this, TaskSearchIndex::size)
+                .description("Tasks in the search index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            logger.info("Task search is disabled (app.search.enabled=false)");
+            return;
+        }
+        Thread loader = new Thread(this::loadAll, "task-search-load");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Streams every task into the index. Starts after the seeders; events committed meanwhile
+     * are applied as they come, and the version check keeps the newer copy of each task.
+     */
+    void loadAll() {
+        long start = System.nanoTime();
+        setLoading(true);
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<TaskResponse> tasks = taskRepositories.streamResponses(
+                        Specification.<Task>allOf(List.of()), fetchSize)) {
+                    tasks.forEach(task -> index(task, true));
+                }
+            });
+            ready = true;
+            logger.info("Search index loaded: {} tasks in {} ms", size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            logger.error("Failed to load the search index; search stays unavailable", e);
+        } finally {
+            setLoading(false);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (TaskEvent.DELETED.equals(event.type())) {
+            remove(event.taskId());
+        } else {
+            index(event.task(), false);
+        }
+    }
+
+    /**
+     * Tasks matching every term of the query, best first. A null ownerId searches all owners.
+     */
+    public TaskSearchResult search(Long ownerId, String query, int limit) {
+        if (limit < 1 || limit > maxResults) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxResults);
+        }
+        List<String> terms = tokenize(query).stream().distinct().limit(MAX_QUERY_TERMS).toList();
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one letter or digit");
+        }
+        if (!enabled) {
+            throw new ServiceUnavailableException("Task search is disabled");
+        }
+        if (!ready) {
+            throw new ServiceUnavailableException("Search index is not loaded yet, please retry later");
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (ownerId != null) {
+                collect(postingsByOwner.get(ownerId), terms, hits);
+            } else {
+                for (NavigableMap<String, Map<Long, Integer>> postings : postingsByOwner.values()) {
+                    collect(postings, terms, hits);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(RANKING);
+        List<TaskResponse> items = hits.stream().limit(limit).map(Hit::task).toList();
+        return new TaskSearchResult(query, hits.size(), items);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(NavigableMap<String, Map<Long, Integer>> postings, List<String> terms, List<Hit> hits) {
+        if (postings == null) {
+            return;
+        }
+        Map<Long, Double> scores = null;
+        for (String term : terms) {
+            Map<Long, Double> matches = match(postings, term);
+            if (scores == null) {
+                scores = matches;
+            } else {
+                Map<Long, Double> both = new HashMap<>();
+                for (Map.Entry<Long, Double> entry : matches.entrySet()) {
+                    Double previous = scores.get(entry.getKey());
+                    if (previous != null) {
+                        both.put(entry.getKey(), previous + entry.getValue());
+                    }
+                }
+                scores = both;
+            }
+            if (scores.isEmpty()) {
+                return;
+            }
+        }
+        scores.forEach((id, score) -> hits.add(new Hit(documents.get(id).task(), score)));
+    }
+
+    /**
+     * Scores of the tasks having a term that starts with {@code prefix}; only the best such term counts.
+     */
+    static Map<Long, Double> match(NavigableMap<String, Map<Long, Integer>> postings, String prefix) {
+        Map<Long, Double> matches = new HashMap<>();
+        for (Map.Entry<String, Map<Long, Integer>> entry
+                : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true).entrySet()) {
+            // Exact terms count double; the longer the completion, the less a prefix match counts
+            int length = entry.getKey().length();
+            double factor = length == prefix.length() ? 2.0 : (double) prefix.length() / length;
+            entry.getValue().forEach((id, weight) -> matches.merge(id, weight * factor, Math::max));
+        }
+        return matches;
+    }
+
+    private void index(TaskResponse task, boolean fromLoad) {
+        Map<String, Integer> terms = new HashMap<>();
+        for (String term : tokenize(task.title())) {
+            terms.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(task.description())) {
+            terms.merge(term, DESCRIPTION_WEIGHT, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (fromLoad && deletedWhileLoading.contains(task.id())) {
+                return;
+            }
+            Document existing = documents.get(task.id());
+            if (existing != null) {
+                if (version(existing.task()) >= version(task)) {
+                    return;
+                }
+                unpost(existing);
+            }
+            documents.put(task.id(), new Document(task, terms.keySet()));
+            NavigableMap<String, Map<Long, Integer>> postings = postingsByOwner
+                    .computeIfAbsent(task.ownerId(), owner -> new TreeMap<>());
+            terms.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>())
+                    .put(task.id(), weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                deletedWhileLoading.add(taskId);
+            }
+            Document existing = documents.remove(taskId);
+            if (existing != null) {
+                unpost(existing);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unpost(Document document) {
+        Long ownerId = document.task().ownerId();
+        NavigableMap<String, Map<Long, Integer>> postings = postingsByOwner.get(ownerId);
+        if (postings == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            Map<Long, Integer> ids = postings.get(term);
+            if (ids != null) {
+                ids.remove(document.task().id());
+                if (ids.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        if (postings.isEmpty()) {
+            postingsByOwner.remove(ownerId);
+        }
+    }
+
+    private void setLoading(boolean value) {
+        lock.writeLock().lock();
+        try {
+            loading = value;
+            if (!value) {
+                deletedWhileLoading.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long version(TaskResponse task) {
+        return task.version() != null ? task.version() : -1;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        folded = MARKS.matcher(folded).replaceAll("").replace('đ', 'd');
+
+        List<String> terms = new ArrayList<>();
+        for (String term : SEPARATORS.split(folded)) {
+            if (!term.isEmpty()) {
+                terms.add(term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term);
+            }
+        }
+        return terms;
+    }
+
+    private record Document(TaskResponse task, Set<String> terms) {
+    }
+
+    private record Hit(TaskResponse task, double score) {
+    }
+}
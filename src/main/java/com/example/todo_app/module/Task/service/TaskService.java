@@ -1,46 +1,240 @@
 package com.example.todo_app.module.Task.service;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.example.todo_app.config.TableStatistics;
 import com.example.todo_app.module.Task.repository.TaskRepositories;
+import com.example.todo_app.module.Task.repository.TaskSpecifications;
+import com.example.todo_app.module.Task.repository.TaskTombstoneRepositories;
+import com.example.todo_app.module.Task.dto.BatchTaskRequest;
+import com.example.todo_app.module.Task.dto.BatchTaskResponse;
+import com.example.todo_app.module.Task.dto.BatchUpdateTaskItem;
+import com.example.todo_app.module.Task.dto.CursorPage;
+import com.example.todo_app.module.Task.dto.PatchTaskRequest;
+import com.example.todo_app.module.Task.dto.SyncToken;
+import com.example.todo_app.module.Task.dto.TaskChanges;
+import com.example.todo_app.module.Task.dto.TaskCursor;
+import com.example.todo_app.module.Task.dto.TaskEvent;
+import com.example.todo_app.module.Task.dto.TaskFilter;
+import com.example.todo_app.module.Task.dto.TaskResponse;
 import com.example.todo_app.module.Task.dto.CreateTaskRequest;
 import com.example.todo_app.module.Task.dto.UpdateTaskRequest;
 import com.example.todo_app.module.Task.model.Task;
+import com.example.todo_app.module.Task.model.TaskTombstone;
 import com.example.todo_app.module.User.model.User;
 import com.example.todo_app.module.User.repository.UserRepositories;
 
+import tools.jackson.databind.json.JsonMapper;
+
 @Service
 public class TaskService {
+    private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
+
     private final TaskRepositories taskRepositories;
+    private final TaskTombstoneRepositories taskTombstoneRepositories;
     private final UserRepositories userRepositories;
+    private final JsonMapper jsonMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskStatsService taskStatsService;
+    private final TableStatistics tableStatistics;
 
-    public TaskService(TaskRepositories taskRepositories, UserRepositories userRepositories) {
+    // Integer.MIN_VALUE makes MySQL Connector/J stream rows instead of buffering the result
+    @Value("${app.export.fetch-size:-2147483648}")
+    private int exportFetchSize;
+
+    @Value("${app.sync.tombstone-retention-days:30}")
+    private long tombstoneRetentionDays;
+
+    // Changes younger than this are left for the next sync so slower concurrent commits aren't skipped
+    @Value("${app.sync.settle-millis:1000}")
+    private long syncSettleMillis;
+
+    public TaskService(TaskRepositories taskRepositories, TaskTombstoneRepositories taskTombstoneRepositories,
+            UserRepositories userRepositories, JsonMapper jsonMapper, ApplicationEventPublisher eventPublisher,
+            TaskStatsService taskStatsService, TableStatistics tableStatistics) {
         this.taskRepositories = taskRepositories;
+        this.taskTombstoneRepositories = taskTombstoneRepositories;
         this.userRepositories = userRepositories;
+        this.jsonMapper = jsonMapper;
+        this.eventPublisher = eventPublisher;
+        this.taskStatsService = taskStatsService;
+        this.tableStatistics = tableStatistics;
     }
 
+    /**
+     * With approximateCount, the total comes from table statistics instead of COUNT(*);
+     * only for unfiltered listings, since the statistics describe the whole table.
+     */
     @PreAuthorize("hasRole('ADMIN')")
-    public Page<Task> getAllTasks(Pageable pageable) {
+    public Page<TaskResponse> getAllTasks(TaskFilter filter, Pageable pageable, boolean approximateCount) {
+        if (approximateCount && !TaskFilter.NONE.equals(filter)) {
+            throw new IllegalArgumentException("Approximate counts are only available without filters");
+        }
+        Specification<Task> spec = Specification.allOf(filterSpecs(filter));
+        Pageable indexed = indexedPage(pageable);
         try {
-            return taskRepositories.findAll(pageable);
+            if (approximateCount) {
+                Slice<TaskResponse> slice = taskRepositories.findResponseSlice(spec, indexed);
+                return tableStatistics.estimatedPage(slice, "task", taskRepositories::count);
+            }
+            return taskRepositories.findResponses(spec, indexed);
         } catch (Exception e) {
             throw new RuntimeException("Error retrieving tasks from database", e);
         }
     }
 
-    public Page<Task> getTasksByUserId(Long userId, Pageable pageable) {
+    public Page<TaskResponse> getTasksByUserId(Long userId, TaskFilter filter, Pageable pageable) {
+        List<Specification<Task>> specs = filterSpecs(filter);
+        specs.add(0, TaskSpecifications.ownedBy(userId));
         try {
-            return taskRepositories.findByCreateById(userId, pageable);
+            return taskRepositories.findResponses(Specification.allOf(specs), indexedPage(pageable));
         } catch (Exception e) {
             throw new RuntimeException("Error retrieving tasks for user: " + userId, e);
         }
     }
 
-    public Task getTaskById(Long id) {
+    @PreAuthorize("hasRole('ADMIN')")
+    public Slice<TaskResponse> sliceAllTasks(TaskFilter filter, Pageable pageable) {
         try {
-            return taskRepositories.findById(id)
+            return taskRepositories.findResponseSlice(Specification.allOf(filterSpecs(filter)),
+                    indexedPage(pageable));
+        } catch (Exception e) {
+            throw new RuntimeException("Error retrieving tasks from database", e);
+        }
+    }
+
+    public Slice<TaskResponse> sliceTasksByUserId(Long userId, TaskFilter filter, Pageable pageable) {
+        List<Specification<Task>> specs = filterSpecs(filter);
+        specs.add(0, TaskSpecifications.ownedBy(userId));
+        try {
+            return taskRepositories.findResponseSlice(Specification.allOf(specs), indexedPage(pageable));
+        } catch (Exception e) {
+            throw new RuntimeException("Error retrieving tasks for user: " + userId, e);
+        }
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public CursorPage<TaskResponse> scrollAllTasks(TaskFilter filter, String after, Pageable pageable) {
+        return scroll(filterSpecs(filter), after, pageable);
+    }
+
+    public CursorPage<TaskResponse> scrollTasksByUserId(Long userId, TaskFilter filter, String after,
+            Pageable pageable) {
+        List<Specification<Task>> specs = filterSpecs(filter);
+        specs.add(0, TaskSpecifications.ownedBy(userId));
+        return scroll(specs, after, pageable);
+    }
+
+    private static Pageable indexedPage(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                TaskCursor.indexedSort(TaskCursor.sortOrder(pageable.getSort())));
+    }
+
+    private static List<Specification<Task>> filterSpecs(TaskFilter filter) {
+        if (filter.titlePrefix() != null && filter.titlePrefix().length() > 255) {
+            throw new IllegalArgumentException("Title prefix must not exceed 255 characters");
+        }
+        if (filter.minId() != null && filter.maxId() != null && filter.minId() > filter.maxId()) {
+            throw new IllegalArgumentException("minId must not be greater than maxId");
+        }
+        if (filter.updatedFrom() != null && filter.updatedTo() != null
+                && !filter.updatedFrom().isBefore(filter.updatedTo())) {
+            throw new IllegalArgumentException("updatedFrom must be before updatedTo");
+        }
+        return TaskSpecifications.matching(filter);
+    }
+
+    /**
+     * Keyset paging: seeks past the cursor and reads size + 1 rows to detect the next page,
+     * so neither an OFFSET scan nor a COUNT query is needed.
+     */
+    private CursorPage<TaskResponse> scroll(List<Specification<Task>> specs, String after, Pageable pageable) {
+        Sort.Order order = TaskCursor.sortOrder(pageable.getSort());
+        if (after != null && !after.isBlank()) {
+            TaskCursor cursor = TaskCursor.decode(after);
+            if (!cursor.matches(order)) {
+                throw new IllegalArgumentException("Cursor does not match the requested sort");
+            }
+            specs.add(TaskSpecifications.after(cursor));
+        }
+        Sort sort = TaskCursor.indexedSort(order);
+        int size = pageable.getPageSize();
+
+        try {
+            List<TaskResponse> rows = taskRepositories.findResponses(Specification.allOf(specs), sort, size + 1);
+            boolean hasNext = rows.size() > size;
+            List<TaskResponse> content = hasNext ? rows.subList(0, size) : rows;
+            String nextCursor = hasNext ? TaskCursor.of(content.get(size - 1), order).encode() : null;
+            return new CursorPage<>(content, size, hasNext, nextCursor);
+        } catch (Exception e) {
+            throw new RuntimeException("Error retrieving tasks from database", e);
+        }
+    }
+
+    /**
+     * Streams tasks from a forward-only cursor straight into the response body, so memory
+     * use doesn't depend on table size. A null ownerId (admins) exports every task.
+     */
+    @Transactional(readOnly = true)
+    public void exportTasks(Long ownerId, TaskExportWriter format, OutputStream outputStream) throws IOException {
+        List<Specification<Task>> specs = new ArrayList<>();
+        if (ownerId != null) {
+            specs.add(TaskSpecifications.ownedBy(ownerId));
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try (Stream<TaskResponse> tasks = taskRepositories.streamResponses(Specification.allOf(specs),
+                exportFetchSize)) {
+            format.writeHeader(writer);
+            Iterator<TaskResponse> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                format.writeRow(writer, iterator.next(), jsonMapper);
+            }
+        }
+        writer.flush();
+    }
+
+    public TaskResponse getTaskById(Long id) {
+        try {
+            return taskRepositories.findResponseById(id)
                     .orElseThrow(() -> new IllegalArgumentException("Task not found with id: " + id));
         } catch (IllegalArgumentException e) {
             throw e;
@@ -49,50 +243,330 @@ public class TaskService {
         }
     }
 
-    public Task createTask(CreateTaskRequest request, Long userId) {
+    @Transactional
+    public TaskResponse createTask(CreateTaskRequest request, Long userId) {
         try {
-            User user = userRepositories.findById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
+            // Reference proxy: a missing user surfaces as an FK violation on flush. The proxy is
+            // initialized for the response's username, usually from the second-level User cache.
+            User user = userRepositories.getReferenceById(userId);
 
             Task newTask = new Task();
             newTask.setTitle(request.title());
             newTask.setDescription(request.description());
             newTask.setCompleted(request.completed());
             newTask.setCreateBy(user);
-            return taskRepositories.save(newTask);
-        } catch (IllegalArgumentException e) {
+            // Flushed here so a missing owner fails inside this try
+            TaskResponse created = TaskResponse.from(taskRepositories.saveAndFlush(newTask));
+            taskStatsService.adjust(userId, 1, request.completed() ? 1 : 0);
+            eventPublisher.publishEvent(TaskEvent.created(created));
+            return created;
+        } catch (DataIntegrityViolationException e) {
+            if (isMissingOwner(e)) {
+                throw new IllegalArgumentException("User not found with id: " + userId);
+            }
             throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error creating task: " + e.getMessage(), e);
         }
     }
 
-    public Task updateTask(Long id, UpdateTaskRequest request) {
-        try {
-            Task task = taskRepositories.findById(id)
-                    .orElseThrow(() -> new IllegalArgumentException("Task not found with id: " + id));
+    /**
+     * True for a foreign key violation on task.user_id, the only foreign key of the task table.
+     */
+    private static boolean isMissingOwner(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.FOREIGN_KEY;
+    }
 
-            task.setTitle(request.title());
-            task.setDescription(request.description());
-            task.setCompleted(request.completed());
-            return taskRepositories.save(task);
-        } catch (IllegalArgumentException e) {
+    /**
+     * Writes use a single ownership-checked UPDATE/DELETE and the affected row count for
+     * not-found handling. A null ownerId (admins) matches tasks of any owner. A non-null
+     * expectedVersion (from If-Match) makes the write conditional on the current version.
+     * The task stats delta comes from which completed flag the write matched (see writeCompleted).
+     */
+    @Transactional
+    public TaskResponse updateTask(Long id, UpdateTaskRequest request, Long ownerId, Long expectedVersion) {
+        try {
+            Instant updatedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+            int completedDelta = writeCompleted(request.completed(), wasCompleted -> taskRepositories.updateOwned(
+                    id, ownerId, expectedVersion, wasCompleted, request.title(), request.description(),
+                    request.completed(), updatedAt), id, ownerId, expectedVersion);
+            return afterWrite(id, completedDelta);
+        } catch (IllegalArgumentException | OptimisticLockingFailureException e) {
             throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error updating task: " + e.getMessage(), e);
         }
     }
 
-    public void deleteTask(Long id) {
+    @Transactional
+    public TaskResponse patchTask(Long id, PatchTaskRequest request, Long ownerId, Long expectedVersion) {
+        if (request.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be provided");
+        }
         try {
-            if (!taskRepositories.existsById(id)) {
-                throw new IllegalArgumentException("Task not found with id: " + id);
+            int completedDelta;
+            if (request.completed() == null) {
+                if (taskRepositories.patch(id, ownerId, expectedVersion, null, request) == 0) {
+                    throw writeRejected(id, ownerId, expectedVersion);
+                }
+                completedDelta = 0;
+            } else {
+                completedDelta = writeCompleted(request.completed(), wasCompleted -> taskRepositories.patch(
+                        id, ownerId, expectedVersion, wasCompleted, request), id, ownerId, expectedVersion);
             }
-            taskRepositories.deleteById(id);
-        } catch (IllegalArgumentException e) {
+            return afterWrite(id, completedDelta);
+        } catch (IllegalArgumentException | OptimisticLockingFailureException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Error updating task: " + e.getMessage(), e);
+        }
+    }
+
+    @Transactional
+    public void deleteTask(Long id, Long ownerId, Long expectedVersion) {
+        try {
+            // Admins don't pass an owner, but the tombstone needs one
+            Long owner = ownerId != null ? ownerId : taskRepositories.findOwnerIdById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("Task not found with id: " + id));
+            // For the stats a delete takes completed to false: -1 when the deleted row was completed
+            int completedDelta = writeCompleted(false, wasCompleted -> taskRepositories.deleteOwned(
+                    id, owner, expectedVersion, wasCompleted), id, owner, expectedVersion);
+            taskStatsService.adjust(owner, -1, completedDelta);
+            taskTombstoneRepositories.save(tombstone(id, owner));
+            eventPublisher.publishEvent(TaskEvent.deleted(id, owner));
+        } catch (IllegalArgumentException | OptimisticLockingFailureException e) {
             throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error deleting task: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Delta sync: tasks created/updated and task ids deleted after the position in
+     * {@code since}. Without a token every current task is returned and past deletions are
+     * skipped. A null ownerId (admins) covers every owner.
+     */
+    @Transactional(readOnly = true)
+    public TaskChanges getChanges(Long ownerId, String since, int limit) {
+        if (limit < 1 || limit > 1000) {
+            throw new IllegalArgumentException("Limit must be between 1 and 1000");
+        }
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Instant until = now.minusMillis(syncSettleMillis);
+        boolean initial = since == null || since.isBlank();
+        SyncToken token = initial
+                ? new SyncToken(Instant.EPOCH, 0, until, Long.MAX_VALUE, now)
+                : SyncToken.decode(since);
+        // Tombstones past the client's deletion cursor may already be purged
+        if (!initial && token.deletedAt().isBefore(now.minus(Duration.ofDays(tombstoneRetentionDays)))) {
+            return new TaskChanges(List.of(), List.of(), null, false, true);
+        }
+
+        try {
+            Pageable window = PageRequest.of(0, limit + 1);
+            List<TaskResponse> upserted = taskRepositories.findChangedSince(ownerId, token.upsertedAt(),
+                    token.upsertedId(), until, window);
+            List<TaskTombstone> deleted = initial ? List.of()
+                    : taskTombstoneRepositories.findDeletedSince(ownerId, token.deletedAt(), token.deletedId(),
+                            until, window);
+            boolean deletesCaughtUp = deleted.size() <= limit;
+            boolean hasMore = upserted.size() > limit || !deletesCaughtUp;
+            if (upserted.size() > limit) {
+                upserted = upserted.subList(0, limit);
+            }
+            if (deleted.size() > limit) {
+                deleted = deleted.subList(0, limit);
+            }
+
+            TaskResponse lastUpsert = upserted.isEmpty() ? null : upserted.get(upserted.size() - 1);
+            TaskTombstone lastDelete = deleted.isEmpty() ? null : deleted.get(deleted.size() - 1);
+            Instant deletedAt = token.deletedAt();
+            long deletedId = token.deletedId();
+            if (deletesCaughtUp && until.isAfter(deletedAt)) {
+                // Every tombstone up to the settle bound was seen; moving the cursor there keeps
+                // clients that rarely see deletions ahead of the retention check
+                deletedAt = until;
+                deletedId = Long.MAX_VALUE;
+            } else if (lastDelete != null) {
+                deletedAt = lastDelete.getDeletedAt();
+                deletedId = lastDelete.getId();
+            }
+            SyncToken next = new SyncToken(
+                    lastUpsert != null ? lastUpsert.updatedAt() : token.upsertedAt(),
+                    lastUpsert != null ? lastUpsert.id() : token.upsertedId(),
+                    deletedAt, deletedId, now);
+
+            return new TaskChanges(upserted, deleted.stream().map(TaskTombstone::getTaskId).toList(),
+                    next.encode(), hasMore, false);
+        } catch (Exception e) {
+            throw new RuntimeException("Error retrieving task changes", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.sync.tombstone-purge-interval:PT1H}")
+    @Transactional
+    public void purgeExpiredTombstones() {
+        int purged = taskTombstoneRepositories.deleteOlderThan(
+                Instant.now().minus(Duration.ofDays(tombstoneRetentionDays)));
+        if (purged > 0) {
+            logger.info("Purged {} expired task tombstones", purged);
+        }
+    }
+
+    private static TaskTombstone tombstone(Long taskId, Long ownerId) {
+        TaskTombstone tombstone = new TaskTombstone();
+        tombstone.setTaskId(taskId);
+        tombstone.setOwnerId(ownerId);
+        tombstone.setDeletedAt(Instant.now().truncatedTo(ChronoUnit.MICROS));
+        return tombstone;
+    }
+
+    /**
+     * Runs a conditional write that leaves the task's completed flag at {@code completed}, first
+     * for a row already at that value and then for a row where it flips. Each attempt is one
+     * ownership-scoped statement, so no row is read or locked beforehand; the second runs only
+     * when the first matched nothing. Returns the completed-count delta: 0, or +1/-1 on a flip.
+     */
+    private int writeCompleted(boolean completed, ToIntFunction<Boolean> write, Long id, Long ownerId,
+            Long expectedVersion) {
+        if (write.applyAsInt(completed) > 0) {
+            return 0;
+        }
+        if (write.applyAsInt(!completed) > 0) {
+            return completed ? 1 : -1;
+        }
+        throw writeRejected(id, ownerId, expectedVersion);
+    }
+
+    private TaskResponse afterWrite(Long id, int completedDelta) {
+        TaskResponse updated = taskRepositories.findResponseById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Task not found with id: " + id));
+        if (completedDelta != 0) {
+            taskStatsService.adjust(updated.ownerId(), 0, completedDelta);
+        }
+        eventPublisher.publishEvent(TaskEvent.updated(updated));
+        return updated;
+    }
+
+    /**
+     * Tells a failed version check apart from a missing (or foreign) task once a conditional
+     * write touched no rows.
+     */
+    private RuntimeException writeRejected(Long id, Long ownerId, Long expectedVersion) {
+        boolean visible = taskRepositories.findOwnerIdById(id)
+                .filter(owner -> ownerId == null || owner.equals(ownerId))
+                .isPresent();
+        if (visible && expectedVersion != null) {
+            return new OptimisticLockingFailureException(
+                    "Task " + id + " was modified concurrently; expected version " + expectedVersion);
+        }
+        return new IllegalArgumentException("Task not found with id: " + id);
+    }
+
+    /**
+     * Applies creates, updates and deletes in one transaction. Inserts and updates are
+     * flushed as JDBC batches; targets of updates/deletes are loaded with a single IN query.
+     * Tasks that don't exist or belong to another user are reported as not_found.
+     */
+    @Transactional
+    public BatchTaskResponse batchTasks(BatchTaskRequest request, Long userId, boolean admin) {
+        try {
+            List<BatchTaskResponse.ItemResult> results = new ArrayList<>();
+            List<CreateTaskRequest> creates = request.create() != null ? request.create() : List.of();
+            List<BatchUpdateTaskItem> updates = request.update() != null ? request.update() : List.of();
+            List<Long> deletes = request.delete() != null ? request.delete() : List.of();
+
+            // Stats deltas per owner as {total, completed}, applied in owner order
+            Map<Long, long[]> statsDeltas = new TreeMap<>();
+            List<Task> newTasks = new ArrayList<>();
+            if (!creates.isEmpty()) {
+                User owner = userRepositories.getReferenceById(userId);
+                for (CreateTaskRequest create : creates) {
+                    Task task = new Task();
+                    task.setTitle(create.title());
+                    task.setDescription(create.description());
+                    task.setCompleted(create.completed());
+                    task.setCreateBy(owner);
+                    newTasks.add(task);
+                    addStatsDelta(statsDeltas, userId, 1, create.completed() ? 1 : 0);
+                }
+                taskRepositories.saveAll(newTasks);
+                for (int i = 0; i < newTasks.size(); i++) {
+                    results.add(new BatchTaskResponse.ItemResult("create", i, newTasks.get(i).getId(), "created"));
+                }
+            }
+
+            Set<Long> targetIds = new LinkedHashSet<>(deletes);
+            updates.forEach(item -> targetIds.add(item.id()));
+            // Locked so the completed flags used for the stats deltas can't change before commit;
+            // the lock only covers the caller's own tasks (any task for admins)
+            List<Task> found = targetIds.isEmpty() ? List.of()
+                    : taskRepositories.findAllOwnedByIdForUpdate(targetIds, admin ? null : userId);
+            Map<Long, Task> targets = found.stream()
+                    .filter(task -> admin || task.getCreateBy().getId().equals(userId))
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+            List<Task> updated = new ArrayList<>();
+            for (int i = 0; i < updates.size(); i++) {
+                BatchUpdateTaskItem item = updates.get(i);
+                Task task = targets.get(item.id());
+                if (task == null) {
+                    results.add(new BatchTaskResponse.ItemResult("update", i, item.id(), "not_found"));
+                    continue;
+                }
+                if (task.isCompleted() != item.completed()) {
+                    addStatsDelta(statsDeltas, task.getCreateBy().getId(), 0, item.completed() ? 1 : -1);
+                }
+                task.setTitle(item.title());
+                task.setDescription(item.description());
+                task.setCompleted(item.completed());
+                updated.add(task);
+                results.add(new BatchTaskResponse.ItemResult("update", i, item.id(), "updated"));
+            }
+
+            Map<Long, Task> toDelete = new LinkedHashMap<>();
+            for (int i = 0; i < deletes.size(); i++) {
+                Long id = deletes.get(i);
+                Task task = targets.get(id);
+                if (task == null) {
+                    results.add(new BatchTaskResponse.ItemResult("delete", i, id, "not_found"));
+                    continue;
+                }
+                if (toDelete.put(id, task) == null) {
+                    addStatsDelta(statsDeltas, task.getCreateBy().getId(), -1, task.isCompleted() ? -1 : 0);
+                }
+                results.add(new BatchTaskResponse.ItemResult("delete", i, id, "deleted"));
+            }
+            if (!toDelete.isEmpty()) {
+                taskRepositories.deleteAllInBatch(toDelete.values());
+                taskTombstoneRepositories.saveAll(toDelete.values().stream()
+                        .map(task -> tombstone(task.getId(), task.getCreateBy().getId()))
+                        .toList());
+            }
+
+            // Flush first so events carry the versions and timestamps that were written
+            taskRepositories.flush();
+            statsDeltas.forEach((owner, delta) -> taskStatsService.adjust(owner, delta[0], delta[1]));
+            for (Task task : newTasks) {
+                eventPublisher.publishEvent(TaskEvent.created(TaskResponse.from(task)));
+            }
+            for (Task task : updated) {
+                eventPublisher.publishEvent(TaskEvent.updated(TaskResponse.from(task)));
+            }
+            for (Task task : toDelete.values()) {
+                eventPublisher.publishEvent(TaskEvent.deleted(task.getId(), task.getCreateBy().getId()));
+            }
+
+            return new BatchTaskResponse(results);
+        } catch (Exception e) {
+            throw new RuntimeException("Error applying task batch: " + e.getMessage(), e);
+        }
+    }
+
+    private static void addStatsDelta(Map<Long, long[]> deltas, Long ownerId, long total, long completed) {
+        long[] delta = deltas.computeIfAbsent(ownerId, owner -> new long[2]);
+        delta[0] += total;
+        delta[1] += completed;
+    }
 }
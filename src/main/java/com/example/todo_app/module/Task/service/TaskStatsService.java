@@ -0,0 +1,126 @@
+package com.example.todo_app.module.Task.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.example.todo_app.module.Task.dto.TaskStatsResponse;
+import com.example.todo_app.module.Task.repository.TaskStatsRepositories;
+
+/**
+ * Per-owner task counters, so task statistics are a primary-key read instead of a COUNT scan.
+ *
+ * TaskService adds exact deltas in the transaction of each write. Rows written around the
+ * service (seeders, manual SQL) are picked up by the reconciliation, which recounts owners
+ * in small id ranges after startup and then periodically.
+ *
+ * The all-owner totals are a sum over every counter row, so they are cached and re-summed on
+ * their own schedule and after each reconciliation rather than per request. A single global
+ * row would make every task write in the system contend on it.
+ */
+@Service
+public class TaskStatsService {
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatsService.class);
+
+    private final TaskStatsRepositories taskStatsRepositories;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.task-stats.reconcile-chunk:1000}")
+    private long reconcileChunk;
+
+    private volatile TaskStatsResponse globalStats;
+
+    public TaskStatsService(TaskStatsRepositories taskStatsRepositories, TransactionTemplate transactionTemplate) {
+        this.taskStatsRepositories = taskStatsRepositories;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Must run in the transaction of the task write it accounts for.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void adjust(Long ownerId, long total, long completed) {
+        if (total != 0 || completed != 0) {
+            taskStatsRepositories.increment(ownerId, total, completed);
+        }
+    }
+
+    public TaskStatsResponse getStats(Long userId) {
+        try {
+            return taskStatsRepositories.findById(userId)
+                    .map(stats -> TaskStatsResponse.of(userId, stats.getTotal(), stats.getCompleted()))
+                    .orElse(TaskStatsResponse.of(userId, 0, 0));
+        } catch (Exception e) {
+            throw new RuntimeException("Error retrieving task stats for user: " + userId, e);
+        }
+    }
+
+    /**
+     * Totals over all owners, at most global-refresh-interval old.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    public TaskStatsResponse getGlobalStats() {
+        TaskStatsResponse stats = globalStats;
+        if (stats != null) {
+            return stats;
+        }
+        try {
+            return refreshGlobalStats();
+        } catch (Exception e) {
+            throw new RuntimeException("Error retrieving task stats", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.task-stats.global-refresh-interval:PT1M}",
+            initialDelayString = "${app.task-stats.global-refresh-interval:PT1M}")
+    public void scheduledGlobalRefresh() {
+        try {
+            refreshGlobalStats();
+        } catch (Exception e) {
+            logger.warn("Refreshing global task stats failed: {}", e.getMessage());
+        }
+    }
+
+    private TaskStatsResponse refreshGlobalStats() {
+        TaskStatsResponse stats = taskStatsRepositories.sumAll();
+        globalStats = stats;
+        return stats;
+    }
+
+    /**
+     * Recounts every owner's counters from the task table, one owner-id range per transaction
+     * so row locks are held briefly. Runs after the seeders and then every reconcile-interval.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.task-stats.reconcile-interval:PT1H}",
+            initialDelayString = "${app.task-stats.reconcile-interval:PT1H}")
+    public void reconcile() {
+        long start = System.nanoTime();
+        try {
+            Long maxOwnerId = taskStatsRepositories.findMaxOwnerId();
+            long upTo = maxOwnerId != null ? maxOwnerId : 0;
+            for (long from = 1; from <= upTo; from += reconcileChunk) {
+                long fromOwnerId = from;
+                long toOwnerId = Math.min(from + reconcileChunk - 1, upTo);
+                transactionTemplate.executeWithoutResult(status -> {
+                    taskStatsRepositories.recount(fromOwnerId, toOwnerId);
+                    taskStatsRepositories.deleteWithoutTasks(fromOwnerId, toOwnerId);
+                });
+            }
+            refreshGlobalStats();
+            logger.info("Reconciled task stats up to owner {} in {} ms", upTo,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            logger.error("Task stats reconciliation failed", e);
+        }
+    }
+}
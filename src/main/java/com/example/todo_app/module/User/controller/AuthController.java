@@ -5,35 +5,38 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
-import org.springframework.security.oauth2.jwt.JwsHeader;
-import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.oauth2.jwt.JwtClaimsSet;
-import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
-import com.example.todo_app.module.User.model.User;
-import com.example.todo_app.module.User.repository.UserRepositories;
-import java.time.Instant;
+import org.springframework.security.core.AuthenticationException;
+import com.example.todo_app.config.AuthenticatedUser;
+import com.example.todo_app.config.PasswordHashingRejectedException;
+import com.example.todo_app.module.User.service.TokenService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
 
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
     private final AuthenticationManager authenticationManager;
-    private final JwtEncoder jwtEncoder;
-    private final UserRepositories userRepositories;
+    private final TokenService tokenService;
+    private final MeterRegistry meterRegistry;
 
-    public AuthController(AuthenticationManager authenticationManager, JwtEncoder jwtEncoder,
-            UserRepositories userRepositories) {
+    public AuthController(AuthenticationManager authenticationManager, TokenService tokenService,
+            MeterRegistry meterRegistry) {
         this.authenticationManager = authenticationManager;
-        this.jwtEncoder = jwtEncoder;
-        this.userRepositories = userRepositories;
+        this.tokenService = tokenService;
+        this.meterRegistry = meterRegistry;
     }
 
     public record LoginRequest(String username, String password) {
     }
 
-    public record ResponseToken(String token) {
+    public record RefreshRequest(@NotBlank(message = "Refresh token is required") String refreshToken) {
+    }
+
+    public record ResponseToken(String token, String refreshToken, long expiresIn) {
     }
 
     @PostMapping("/login")
@@ -42,31 +45,45 @@ public class AuthController {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(request.username(), request.password()));
 
-            User user = userRepositories.findByUsername(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            String role = authentication.getAuthorities().stream()
-                    .findFirst()
-                    .map(grantedAuthority -> grantedAuthority
-                            .getAuthority())
-                    .orElse("USER");
-
-            JwsHeader jwsHeader = JwsHeader.with(MacAlgorithm.HS256).build();
-            JwtClaimsSet claims = JwtClaimsSet.builder()
-                    .subject(authentication.getName())
-                    .claim("userId", user.getId())
-                    .issuedAt(Instant.now())
-                    .expiresAt(Instant.now().plusSeconds(3600))
-                    .claim("role", role)
-                    .build();
-
-            String token = jwtEncoder.encode(JwtEncoderParameters.from(jwsHeader, claims)).getTokenValue();
-            return new ResponseToken(token);
+            AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
+            TokenService.IssuedTokens tokens = tokenService.issueTokens(user.getId(), authentication.getName(),
+                    user.getRole());
+            countAuth("login", "success");
+            return new ResponseToken(tokens.accessToken(), tokens.refreshToken(), tokens.expiresIn());
         } catch (org.springframework.security.authentication.BadCredentialsException e) {
+            countAuth("login", "bad_credentials");
             throw new org.springframework.security.authentication.BadCredentialsException(
                     "Invalid username or password");
+        } catch (PasswordHashingRejectedException e) {
+            countAuth("login", "rejected");
+            throw e;
         } catch (Exception e) {
+            // Rejections raised while the user lookup runs are wrapped by the authentication provider
+            if (e.getCause() instanceof PasswordHashingRejectedException rejected) {
+                countAuth("login", "rejected");
+                throw rejected;
+            }
+            countAuth("login", "error");
             throw new RuntimeException("Authentication failed: " + e.getMessage(), e);
         }
     }
+
+    @PostMapping("/refresh")
+    public ResponseToken refresh(@Valid @RequestBody RefreshRequest request) {
+        try {
+            TokenService.IssuedTokens tokens = tokenService.refresh(request.refreshToken());
+            countAuth("refresh", "success");
+            return new ResponseToken(tokens.accessToken(), tokens.refreshToken(), tokens.expiresIn());
+        } catch (AuthenticationException e) {
+            countAuth("refresh", "invalid");
+            throw e;
+        } catch (Exception e) {
+            countAuth("refresh", "error");
+            throw new RuntimeException("Token refresh failed: " + e.getMessage(), e);
+        }
+    }
+
+    private void countAuth(String operation, String outcome) {
+        meterRegistry.counter("auth.attempts", "operation", operation, "outcome", outcome).increment();
+    }
 }
@@ -1,7 +1,7 @@
 package com.example.todo_app.module.User.controller;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,11 +10,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springdoc.core.annotations.ParameterObject;
 
+import com.example.todo_app.common.dto.PageResponse;
+import com.example.todo_app.config.PasswordHashingRejectedException;
 import com.example.todo_app.module.User.dto.CreateUserRequest;
 import com.example.todo_app.module.User.dto.UpdateUserRequest;
+import com.example.todo_app.module.User.dto.UserResponse;
 import com.example.todo_app.module.User.model.User;
 import com.example.todo_app.module.User.service.UserService;
 
@@ -30,39 +34,65 @@ public class UserController {
         this.userService = userService;
     }
 
+    /**
+     * paging=slice skips the total (hasNext only); count=approximate takes it from table statistics.
+     */
     @GetMapping("/")
-    public Page<User> getAllUsers(@ParameterObject @PageableDefault(size = 10) Pageable pageable) {
+    public PageResponse<UserResponse> getAllUsers(@RequestParam(defaultValue = "offset") String paging,
+            @RequestParam(defaultValue = "exact") String count,
+            @ParameterObject @PageableDefault(size = 10) Pageable pageable) {
         try {
-            return userService.getAllUsers(pageable);
+            Slice<User> users;
+            switch (paging.toLowerCase()) {
+                case "offset":
+                    if ("approximate".equalsIgnoreCase(count)) {
+                        users = userService.getAllUsersWithEstimatedCount(pageable);
+                    } else if ("exact".equalsIgnoreCase(count)) {
+                        users = userService.getAllUsers(pageable);
+                    } else {
+                        throw new IllegalArgumentException("Unsupported count mode: " + count);
+                    }
+                    break;
+                case "slice":
+                    users = userService.sliceAllUsers(pageable);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported paging mode: " + paging);
+            }
+            return PageResponse.of(users.map(UserResponse::from));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage());
         } catch (Exception e) {
             throw new RuntimeException("Failed to retrieve users: " + e.getMessage());
         }
     }
 
     @PostMapping("/")
-    public User createUser(@Valid @RequestBody CreateUserRequest user) {
+    public UserResponse createUser(@Valid @RequestBody CreateUserRequest user) {
         try {
-            return userService.createUser(user);
+            return UserResponse.from(userService.createUser(user));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(e.getMessage());
         }
     }
 
     @GetMapping("/{id}")
-    public User getUserById(@PathVariable Long id) {
+    public UserResponse getUserById(@PathVariable Long id) {
         try {
-            return userService.getUserById(id);
+            return UserResponse.from(userService.getUserById(id));
         } catch (Exception e) {
             throw new RuntimeException("Failed to retrieve user: " + e.getMessage());
         }
     }
 
     @PutMapping("/{id}")
-    public User updateUser(@PathVariable Long id, @Valid @RequestBody UpdateUserRequest user) {
+    public UserResponse updateUser(@PathVariable Long id, @Valid @RequestBody UpdateUserRequest user) {
         try {
-            return userService.updateUser(id, user);
+            return UserResponse.from(userService.updateUser(id, user));
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException(e.getMessage());
+        } catch (PasswordHashingRejectedException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Failed to update user: " + e.getMessage());
         }
@@ -0,0 +1,17 @@
+package com.example.todo_app.module.User.dto;
+
+import com.example.todo_app.module.User.model.User;
+
+/**
+ * User row as listed by GET /api/user/, without the password hash.
+ */
+public record UserResponse(
+        Long id,
+        String username,
+        String email,
+        String role) {
+
+    public static UserResponse from(User user) {
+        return new UserResponse(user.getId(), user.getUsername(), user.getEmail(), user.getRole());
+    }
+}
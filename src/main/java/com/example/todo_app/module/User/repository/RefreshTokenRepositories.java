@@ -0,0 +1,32 @@
+package com.example.todo_app.module.User.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.example.todo_app.module.User.model.RefreshToken;
+
+@Repository
+public interface RefreshTokenRepositories extends JpaRepository<RefreshToken, Long> {
+
+    @Query("select rt from RefreshToken rt join fetch rt.user where rt.tokenHash = :tokenHash")
+    Optional<RefreshToken> findWithUserByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("update RefreshToken rt set rt.tokenHash = :newHash, rt.expiresAt = :expiresAt "
+            + "where rt.tokenHash = :oldHash and rt.expiresAt > :now")
+    int rotate(@Param("oldHash") String oldHash, @Param("newHash") String newHash,
+            @Param("expiresAt") Instant expiresAt, @Param("now") Instant now);
+
+    @Modifying
+    @Query("delete from RefreshToken rt where rt.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+
+    @Modifying
+    @Query("delete from RefreshToken rt where rt.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
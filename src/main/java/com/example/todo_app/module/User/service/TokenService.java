@@ -0,0 +1,142 @@
+package com.example.todo_app.module.User.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.example.todo_app.module.User.model.RefreshToken;
+import com.example.todo_app.module.User.model.User;
+import com.example.todo_app.module.User.repository.RefreshTokenRepositories;
+import com.example.todo_app.module.User.repository.UserRepositories;
+
+/**
+ * Mints access tokens and manages rotating refresh tokens.
+ * Renewing a session costs one indexed lookup, one UPDATE and one HMAC signature.
+ */
+@Service
+public class TokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenService.class);
+
+    private final JwtEncoder jwtEncoder;
+    private final RefreshTokenRepositories refreshTokenRepositories;
+    private final UserRepositories userRepositories;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.access-token-minutes:60}")
+    private long accessTokenMinutes;
+
+    @Value("${jwt.refresh-token-days:30}")
+    private long refreshTokenDays;
+
+    public TokenService(JwtEncoder jwtEncoder, RefreshTokenRepositories refreshTokenRepositories,
+            UserRepositories userRepositories) {
+        this.jwtEncoder = jwtEncoder;
+        this.refreshTokenRepositories = refreshTokenRepositories;
+        this.userRepositories = userRepositories;
+    }
+
+    public record IssuedTokens(String accessToken, String refreshToken, long expiresIn) {
+    }
+
+    @Transactional
+    public IssuedTokens issueTokens(Long userId, String username, String role) {
+        String refreshToken = generateRefreshToken();
+
+        RefreshToken stored = new RefreshToken();
+        stored.setTokenHash(hash(refreshToken));
+        stored.setUser(userRepositories.getReferenceById(userId));
+        stored.setExpiresAt(Instant.now().plus(Duration.ofDays(refreshTokenDays)));
+        refreshTokenRepositories.save(stored);
+
+        return new IssuedTokens(createAccessToken(userId, username, role), refreshToken, accessTokenSeconds());
+    }
+
+    @Transactional
+    public IssuedTokens refresh(String refreshToken) {
+        Instant now = Instant.now();
+        String currentHash = hash(refreshToken);
+        RefreshToken stored = refreshTokenRepositories.findWithUserByTokenHash(currentHash)
+                .filter(token -> token.getExpiresAt().isAfter(now))
+                .orElseThrow(() -> new CredentialsExpiredException("Refresh token is invalid or expired"));
+
+        // Conditional update: a concurrent refresh with the same token loses the race and gets 401
+        String nextToken = generateRefreshToken();
+        int rotated = refreshTokenRepositories.rotate(currentHash, hash(nextToken),
+                now.plus(Duration.ofDays(refreshTokenDays)), now);
+        if (rotated == 0) {
+            throw new CredentialsExpiredException("Refresh token is invalid or expired");
+        }
+
+        User user = stored.getUser();
+        String accessToken = createAccessToken(user.getId(), user.getUsername(), user.getRole().toUpperCase());
+        return new IssuedTokens(accessToken, nextToken, accessTokenSeconds());
+    }
+
+    /**
+     * Ends every session of the user; joins the caller's transaction, e.g. a password change.
+     */
+    @Transactional
+    public void revokeRefreshTokens(Long userId) {
+        refreshTokenRepositories.deleteByUserId(userId);
+    }
+
+    public String createAccessToken(Long userId, String username, String role) {
+        Instant now = Instant.now();
+        JwsHeader jwsHeader = JwsHeader.with(MacAlgorithm.HS256).build();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject(username)
+                .claim("userId", userId)
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(accessTokenSeconds()))
+                .claim("role", role)
+                .build();
+
+        return jwtEncoder.encode(JwtEncoderParameters.from(jwsHeader, claims)).getTokenValue();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-purge-interval:PT1H}")
+    @Transactional
+    public void purgeExpiredRefreshTokens() {
+        int purged = refreshTokenRepositories.deleteExpired(Instant.now());
+        if (purged > 0) {
+            logger.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    private long accessTokenSeconds() {
+        return Duration.ofMinutes(accessTokenMinutes).toSeconds();
+    }
+
+    private String generateRefreshToken() {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
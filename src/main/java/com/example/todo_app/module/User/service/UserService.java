@@ -5,8 +5,12 @@ import java.util.List;
 import org.hibernate.sql.Update;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.example.todo_app.config.PasswordHashingRejectedException;
+import com.example.todo_app.config.TableStatistics;
 import com.example.todo_app.module.User.dto.UpdateUserRequest;
 import com.example.todo_app.module.User.dto.CreateUserRequest;
 import com.example.todo_app.module.User.model.User;
@@ -16,10 +20,15 @@ import com.example.todo_app.module.User.repository.UserRepositories;
 public class UserService {
     private final UserRepositories userRepositories;
     private final PasswordEncoder passwordEncoder;
+    private final TableStatistics tableStatistics;
+    private final TokenService tokenService;
 
-    public UserService(UserRepositories userRepositories, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepositories userRepositories, PasswordEncoder passwordEncoder,
+            TableStatistics tableStatistics, TokenService tokenService) {
         this.userRepositories = userRepositories;
         this.passwordEncoder = passwordEncoder;
+        this.tableStatistics = tableStatistics;
+        this.tokenService = tokenService;
     }
 
     public Page<User> getAllUsers(Pageable pageable) {
@@ -30,6 +39,27 @@ public class UserService {
         }
     }
 
+    public Slice<User> sliceAllUsers(Pageable pageable) {
+        try {
+            return userRepositories.findAllBy(pageable);
+        } catch (Exception e) {
+            throw new RuntimeException("Error retrieving users from database", e);
+        }
+    }
+
+    /**
+     * Page whose total is the table's row estimate rather than COUNT(*), falling back to an
+     * exact count when the database has no estimate.
+     */
+    public Page<User> getAllUsersWithEstimatedCount(Pageable pageable) {
+        try {
+            Slice<User> slice = userRepositories.findAllBy(pageable);
+            return tableStatistics.estimatedPage(slice, "users", userRepositories::count);
+        } catch (Exception e) {
+            throw new RuntimeException("Error retrieving users from database", e);
+        }
+    }
+
     public User getUserById(Long id) {
         try {
             return userRepositories.findById(id)
@@ -52,13 +82,14 @@ public class UserService {
             user.setPassword(passwordEncoder.encode(request.password()));
             user.setRole(request.role());
             return userRepositories.save(user);
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | PasswordHashingRejectedException e) {
             throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error creating user: " + e.getMessage(), e);
         }
     }
 
+    @Transactional
     public User updateUser(Long id, UpdateUserRequest userDetails) {
         try {
             User user = userRepositories.findById(id)
@@ -66,16 +97,21 @@ public class UserService {
 
             user.setUsername(userDetails.username());
             user.setEmail(userDetails.email());
-            user.setPassword(passwordEncoder.encode(userDetails.password()));
+            // A new password ends the user's sessions, in this transaction
+            if (!passwordEncoder.matches(userDetails.password(), user.getPassword())) {
+                user.setPassword(passwordEncoder.encode(userDetails.password()));
+                tokenService.revokeRefreshTokens(id);
+            }
             user.setRole(userDetails.role());
             return userRepositories.save(user);
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | PasswordHashingRejectedException e) {
             throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error updating user: " + e.getMessage(), e);
         }
     }
 
+    @Transactional
     public void deleteUser(Long id) {
         try {
             if (!userRepositories.existsById(id)) {
@@ -0,0 +1,29 @@
+-- Pooled id sequence for task (allocationSize = 50), started above any existing id
+CREATE TABLE IF NOT EXISTS task_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO task_seq (next_val)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM task_seq);
+
+UPDATE task_seq
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id) + 51, 1) FROM task));
+
+CREATE TABLE IF NOT EXISTS refresh_token (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    token_hash VARCHAR(64) NOT NULL,
+    user_id BIGINT NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash),
+    KEY idx_refresh_token_user (user_id),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- Login and UserService.createUser look users up by username and email
+CREATE UNIQUE INDEX uk_users_username ON users (username);
+CREATE UNIQUE INDEX uk_users_email ON users (email);
+
+-- Per-user listing (ORDER BY id) and completed-state filtering
+CREATE INDEX idx_task_user_id ON task (user_id, id);
+CREATE INDEX idx_task_user_completed ON task (user_id, completed);
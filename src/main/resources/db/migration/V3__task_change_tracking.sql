@@ -0,0 +1,18 @@
+-- Optimistic-lock version and modification timestamp for delta sync
+ALTER TABLE task
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+CREATE INDEX idx_task_user_updated ON task (user_id, updated_at, id);
+CREATE INDEX idx_task_updated ON task (updated_at, id);
+
+-- Deleted task ids, kept for the sync retention window
+CREATE TABLE task_tombstone (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    task_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    deleted_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_task_tombstone_user_deleted (user_id, deleted_at, id),
+    KEY idx_task_tombstone_deleted (deleted_at, id)
+) ENGINE = InnoDB;
@@ -0,0 +1,4 @@
+-- Title sort and title prefix filter, with and without the owner.
+-- id sorts use the primary key / idx_task_user_id; updatedAt sorts use the V3 indexes.
+CREATE INDEX idx_task_user_title ON task (user_id, title, id);
+CREATE INDEX idx_task_title ON task (title, id);
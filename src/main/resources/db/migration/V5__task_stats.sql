@@ -0,0 +1,13 @@
+-- Per-owner task counters maintained by TaskService and reconciled by TaskStatsService.
+-- No foreign key to users: rows of owners without tasks are removed by the reconciliation.
+CREATE TABLE task_stats (
+    user_id BIGINT NOT NULL,
+    total BIGINT NOT NULL DEFAULT 0,
+    completed BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB;
+
+INSERT INTO task_stats (user_id, total, completed)
+SELECT user_id, COUNT(*), SUM(CASE WHEN completed = TRUE THEN 1 ELSE 0 END)
+FROM task
+GROUP BY user_id;
@@ -0,0 +1,19 @@
+package com.example.todo_app;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Starts the full context on the loadtest profile's in-memory H2, so startup failures
+ * (cache, security or mapping configuration) fail the build without a MySQL server.
+ */
+@SpringBootTest(properties = "app.bulk-seed.enabled=false")
+@ActiveProfiles("loadtest")
+class LoadtestProfileContextTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.example.todo_app.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+class StatementBudgetCheckerTest {
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/task/1");
+
+    @AfterEach
+    void tearDown() {
+        RequestStatementStats.end();
+    }
+
+    @Test
+    void offModeNeverReports() {
+        RequestStatementStats stats = stats(50, "select 1", 50);
+
+        checker("off").check(request, stats, true);
+
+        assertThat(stats.markBudgetChecked()).isTrue();
+    }
+
+    @Test
+    void warnModeReportsOnceWithoutFailing() {
+        RequestStatementStats stats = stats(3, null, 0);
+
+        assertThatCode(() -> checker("warn").check(request, stats, true)).doesNotThrowAnyException();
+        assertThat(stats.markBudgetChecked()).isFalse();
+    }
+
+    @Test
+    void failModeRejectsRequestsOverBudget() {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/task/{id}");
+
+        assertThatThrownBy(() -> checker("fail").check(request, stats(3, null, 0), true))
+                .isInstanceOf(StatementBudgetExceededException.class)
+                .hasMessage("GET /api/task/{id} executed 3 statements (budget 2)");
+    }
+
+    @Test
+    void failModeRejectsRepeatedSqlWithinBudget() {
+        assertThatThrownBy(() -> checker("fail").check(request, stats(2, "select t from task t", 4), true))
+                .isInstanceOf(StatementBudgetExceededException.class)
+                .hasMessageContaining("possible N+1, repeated 4 times: select t from task t");
+    }
+
+    @Test
+    void failModeOnlyLogsOnceTheBodyIsWritten() {
+        RequestStatementStats stats = stats(3, null, 0);
+        StatementBudgetChecker checker = checker("fail");
+
+        assertThatCode(() -> checker.check(request, stats, false)).doesNotThrowAnyException();
+        // Already reported, so a later check (e.g. for an error body) doesn't fail it either
+        assertThatCode(() -> checker.check(request, stats, true)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void annotatedHandlerOverridesTheDefaultBudget() throws NoSuchMethodException {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new Handlers(), Handlers.class.getMethod("generous")));
+        assertThatCode(() -> checker("fail").check(request, stats(3, null, 0), true)).doesNotThrowAnyException();
+
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new Handlers(), Handlers.class.getMethod("inherited")));
+        assertThatCode(() -> checker("fail").check(request, stats(3, null, 0), true)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> checker("fail").check(request, stats(5, null, 0), true))
+                .isInstanceOf(StatementBudgetExceededException.class)
+                .hasMessageContaining("(budget 4)");
+    }
+
+    private static StatementBudgetChecker checker(String mode) {
+        StatementBudgetChecker checker = new StatementBudgetChecker(mode);
+        ReflectionTestUtils.setField(checker, "maxStatements", 2);
+        ReflectionTestUtils.setField(checker, "maxRepeats", 3);
+        return checker;
+    }
+
+    private static RequestStatementStats stats(int statements, String sql, int repeats) {
+        RequestStatementStats stats = RequestStatementStats.begin();
+        for (int i = 0; i < statements; i++) {
+            stats.record(1_000);
+        }
+        for (int i = 0; i < repeats; i++) {
+            stats.recordSql(sql);
+        }
+        return stats;
+    }
+
+    @StatementBudget(4)
+    static class Handlers {
+
+        @StatementBudget(10)
+        public void generous() {
+        }
+
+        public void inherited() {
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.example.todo_app.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import com.example.todo_app.TodoAppApplication;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Closed-loop HTTP load driver. Each client logs in as one of the generated loadtest users
+ * and then loops over a weighted mix of list, create, update, delete and login requests
+ * until the run ends. Samples taken during warm-up are discarded.
+ *
+ * Without --target the app is started in-process with the "loadtest" profile (embedded H2),
+ * which shares the CPU with the driver; point --target at a separately started instance for
+ * numbers that matter.
+ *
+ * Options: --target=http://host:port --clients=50 --duration=60 --warmup=10
+ *          --accounts=1000 --password=password123 --page-size=20
+ */
+public final class LoadDriver {
+
+    // Operation, weight (percent)
+    private static final Map<String, Integer> MIX = new LinkedHashMap<>();
+
+    static {
+        MIX.put("list", 50);
+        MIX.put("update", 20);
+        MIX.put("create", 15);
+        MIX.put("delete", 10);
+        MIX.put("login", 5);
+    }
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+    private final int accounts;
+    private final String password;
+    private final int pageSize;
+
+    private LoadDriver(String baseUrl, int accounts, String password, int pageSize) {
+        this.baseUrl = baseUrl;
+        this.accounts = accounts;
+        this.password = password;
+        this.pageSize = pageSize;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int clients = Integer.parseInt(options.getOrDefault("clients", "50"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int accounts = Integer.parseInt(options.getOrDefault("accounts", "1000"));
+        String password = options.getOrDefault("password", "password123");
+        int pageSize = Integer.parseInt(options.getOrDefault("page-size", "20"));
+
+        ConfigurableApplicationContext context = null;
+        String target = options.get("target");
+        if (target == null) {
+            context = new SpringApplicationBuilder(TodoAppApplication.class)
+                    .profiles("loadtest")
+                    .run("--server.port=0",
+                            "--management.server.port=0",
+                            "--app.bulk-seed.users=" + accounts,
+                            "--app.bulk-seed.password=" + password,
+                            "--logging.level.root=WARN");
+            target = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            System.out.printf("Target %s, %d clients, %ds warm-up + %ds measured%n", target, clients, warmupSeconds,
+                    durationSeconds);
+            LoadDriver driver = new LoadDriver(target, accounts, password, pageSize);
+            Map<String, Samples> results = driver.run(clients, warmupSeconds, durationSeconds);
+            report(results, durationSeconds);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private Map<String, Samples> run(int clients, int warmupSeconds, int durationSeconds) throws Exception {
+        long measureFrom = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long end = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+
+        List<Future<Map<String, Samples>>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                String username = "loaduser" + (i % accounts + 1);
+                futures.add(executor.submit(() -> client(username, measureFrom, end)));
+            }
+        }
+
+        Map<String, Samples> merged = new LinkedHashMap<>();
+        MIX.keySet().forEach(operation -> merged.put(operation, new Samples()));
+        for (Future<Map<String, Samples>> future : futures) {
+            future.get().forEach((operation, samples) -> merged.get(operation).addAll(samples));
+        }
+        return merged;
+    }
+
+    private Map<String, Samples> client(String username, long measureFrom, long end) {
+        Map<String, Samples> samples = new HashMap<>();
+        MIX.keySet().forEach(operation -> samples.put(operation, new Samples()));
+        List<Long> ownTasks = new ArrayList<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        String token = null;
+        while (token == null && System.nanoTime() < end) {
+            token = login(username);
+        }
+
+        while (System.nanoTime() < end) {
+            String operation = pick(random.nextInt(100));
+            if ((operation.equals("update") || operation.equals("delete")) && ownTasks.isEmpty()) {
+                operation = "create";
+            }
+
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                switch (operation) {
+                    case "list" -> ok = send(token, "GET", "/api/task/?page=" + random.nextInt(3) + "&size="
+                            + pageSize, null).statusCode() == 200;
+                    case "create" -> {
+                        HttpResponse<String> response = send(token, "POST", "/api/task/",
+                                taskBody("Load task " + random.nextInt(1_000_000), random.nextBoolean()));
+                        ok = response.statusCode() == 200;
+                        if (ok) {
+                            ownTasks.add(JSON.readTree(response.body()).get("id").asLong());
+                        }
+                    }
+                    case "update" -> {
+                        Long id = ownTasks.get(random.nextInt(ownTasks.size()));
+                        ok = send(token, "PUT", "/api/task/" + id,
+                                taskBody("Updated task " + random.nextInt(1_000_000), random.nextBoolean()))
+                                .statusCode() == 200;
+                    }
+                    case "delete" -> {
+                        Long id = ownTasks.remove(ownTasks.size() - 1);
+                        ok = send(token, "DELETE", "/api/task/" + id, null).statusCode() == 200;
+                    }
+                    default -> {
+                        String renewed = login(username);
+                        ok = renewed != null;
+                        if (ok) {
+                            token = renewed;
+                        }
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            long finished = System.nanoTime();
+            if (start >= measureFrom) {
+                samples.get(operation).record(finished - start, ok);
+            }
+        }
+        return samples;
+    }
+
+    private String login(String username) {
+        try {
+            String body = JSON.writeValueAsString(Map.of("username", username, "password", password));
+            HttpResponse<String> response = send(null, "POST", "/api/auth/login", body);
+            if (response.statusCode() != 200) {
+                return null;
+            }
+            return JSON.readTree(response.body()).get("token").asString();
+        } catch (IOException | RuntimeException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private HttpResponse<String> send(String token, String method, String path, String body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .method(method, body != null ? HttpRequest.BodyPublishers.ofString(body)
+                        : HttpRequest.BodyPublishers.noBody());
+        if (body != null) {
+            request.header("Content-Type", "application/json");
+        }
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String taskBody(String title, boolean completed) {
+        return JSON.writeValueAsString(Map.of("title", title, "description", "Created by the load driver",
+                "completed", completed));
+    }
+
+    private static String pick(int roll) {
+        int cumulative = 0;
+        for (Map.Entry<String, Integer> entry : MIX.entrySet()) {
+            cumulative += entry.getValue();
+            if (roll < cumulative) {
+                return entry.getKey();
+            }
+        }
+        return "list";
+    }
+
+    private static void report(Map<String, Samples> results, int durationSeconds) {
+        System.out.printf("%n%-8s %9s %7s %9s %9s %9s %9s %9s%n", "op", "count", "errors", "req/s", "p50 ms",
+                "p90 ms", "p99 ms", "max ms");
+        Samples total = new Samples();
+        results.forEach((operation, samples) -> {
+            printRow(operation, samples, durationSeconds);
+            total.addAll(samples);
+        });
+        printRow("total", total, durationSeconds);
+    }
+
+    private static void printRow(String operation, Samples samples, int durationSeconds) {
+        long[] sorted = samples.sorted();
+        System.out.printf("%-8s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", operation, sorted.length,
+                samples.errors, (double) sorted.length / durationSeconds, percentile(sorted, 0.50),
+                percentile(sorted, 0.90), percentile(sorted, 0.99), percentile(sorted, 1.0));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    /**
+     * Latencies in nanoseconds; errors are counted and included in the latencies.
+     */
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+        private int errors;
+
+        void record(long nanos, boolean ok) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.todo_app.module.Task.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+class TaskControllerTest {
+
+    @Test
+    void missingOrWildcardIfMatchIsUnconditional() {
+        assertThat(TaskController.expectedVersion(12L, null)).isNull();
+        assertThat(TaskController.expectedVersion(12L, "  ")).isNull();
+        assertThat(TaskController.expectedVersion(12L, " * ")).isNull();
+    }
+
+    @Test
+    void ifMatchYieldsTheVersionOfThisTasksTag() {
+        assertThat(TaskController.expectedVersion(12L, "\"12-3\"")).isEqualTo(3L);
+        assertThat(TaskController.expectedVersion(12L, " \"12-0\" ")).isZero();
+    }
+
+    @Test
+    void tagOfAnotherTaskOrMalformedTagFailsThePrecondition() {
+        for (String tag : new String[] { "\"13-3\"", "\"112-3\"", "\"12-\"", "\"12-x\"", "12-3", "W/\"12-3\"" }) {
+            assertThatThrownBy(() -> TaskController.expectedVersion(12L, tag)).as(tag)
+                    .isInstanceOf(OptimisticLockingFailureException.class);
+        }
+    }
+
+    @Test
+    void ifMatchListsAreRejected() {
+        assertThatThrownBy(() -> TaskController.expectedVersion(12L, "\"12-3\", \"12-4\""))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
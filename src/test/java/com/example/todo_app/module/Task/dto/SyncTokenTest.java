@@ -0,0 +1,35 @@
+package com.example.todo_app.module.Task.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class SyncTokenTest {
+
+    @Test
+    void encodeDecodeKeepsMicrosecondPositions() {
+        SyncToken token = new SyncToken(Instant.parse("2026-03-04T05:06:07.123456Z"), 11,
+                Instant.parse("2026-03-04T05:06:08.000001Z"), Long.MAX_VALUE, Instant.parse("2026-03-04T05:06:09Z"));
+
+        assertThat(SyncToken.decode(token.encode())).isEqualTo(token);
+    }
+
+    @Test
+    void decodeRejectsMalformedTokens() {
+        assertThatThrownBy(() -> SyncToken.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SyncToken.decode(raw("1:2:3:4"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SyncToken.decode(raw("1:2:3:4:5:6"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SyncToken.decode(raw("1:2:x:4:5")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid sync token");
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
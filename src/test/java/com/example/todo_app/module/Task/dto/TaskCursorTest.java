@@ -0,0 +1,77 @@
+package com.example.todo_app.module.Task.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+class TaskCursorTest {
+
+    @Test
+    void encodeDecodeRoundTripsTitlesContainingTheSeparator() {
+        TaskCursor cursor = new TaskCursor("title", Sort.Direction.DESC, "Call: bank, then: shop", 42L);
+
+        assertThat(TaskCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void ofTakesTheSortKeyOfTheLastRow() {
+        Instant updatedAt = Instant.parse("2026-01-02T03:04:05.123456Z");
+        TaskResponse task = new TaskResponse(9L, "Title", "description", false, 1L, "user1", updatedAt, 0L);
+
+        assertThat(TaskCursor.of(task, Sort.Order.asc("updatedAt")))
+                .isEqualTo(new TaskCursor("updatedAt", Sort.Direction.ASC, updatedAt.toString(), 9L));
+        assertThat(TaskCursor.of(task, Sort.Order.desc("title")))
+                .isEqualTo(new TaskCursor("title", Sort.Direction.DESC, "Title", 9L));
+        assertThat(TaskCursor.of(task, Sort.Order.asc("id")))
+                .isEqualTo(new TaskCursor("id", Sort.Direction.ASC, "9", 9L));
+    }
+
+    @Test
+    void decodeRejectsMalformedCursors() {
+        assertThatThrownBy(() -> TaskCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskCursor.decode(raw("title:ASC:1")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskCursor.decode(raw("description:ASC:1:x")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskCursor.decode(raw("title:UP:1:x")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskCursor.decode(raw("title:ASC:one:x")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskCursor.decode(raw("updatedAt:ASC:1:yesterday")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void matchesOnlyTheSameKeyAndDirection() {
+        TaskCursor cursor = new TaskCursor("title", Sort.Direction.ASC, "x", 1L);
+
+        assertThat(cursor.matches(Sort.Order.asc("title"))).isTrue();
+        assertThat(cursor.matches(Sort.Order.desc("title"))).isFalse();
+        assertThat(cursor.matches(Sort.Order.asc("updatedAt"))).isFalse();
+    }
+
+    @Test
+    void sortOrderAllowsOneIndexedKeyAndDefaultsToId() {
+        assertThat(TaskCursor.sortOrder(Sort.unsorted())).isEqualTo(Sort.Order.asc("id"));
+        assertThat(TaskCursor.sortOrder(Sort.by(Sort.Order.desc("updatedAt")))).isEqualTo(Sort.Order.desc("updatedAt"));
+        assertThat(TaskCursor.indexedSort(Sort.Order.desc("title")))
+                .containsExactly(Sort.Order.desc("title"), Sort.Order.desc("id"));
+
+        assertThatThrownBy(() -> TaskCursor.sortOrder(Sort.by("description")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskCursor.sortOrder(Sort.by("title", "id")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskCursor.sortOrder(Sort.by(Sort.Order.asc("title").ignoreCase())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
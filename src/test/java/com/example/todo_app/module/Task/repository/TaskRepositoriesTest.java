@@ -0,0 +1,193 @@
+package com.example.todo_app.module.Task.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import com.example.todo_app.module.Task.dto.TaskCursor;
+import com.example.todo_app.module.Task.dto.TaskResponse;
+import com.example.todo_app.module.Task.model.Task;
+import com.example.todo_app.module.Task.model.TaskTombstone;
+import com.example.todo_app.module.User.model.User;
+import com.example.todo_app.module.User.repository.UserRepositories;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Runs the hand-written queries against H2; the schema comes from the entities because the
+ * Flyway scripts are MySQL-only.
+ */
+@DataJpaTest(properties = { "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop" })
+class TaskRepositoriesTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    private TaskRepositories taskRepositories;
+
+    @Autowired
+    private TaskTombstoneRepositories taskTombstoneRepositories;
+
+    @Autowired
+    private UserRepositories userRepositories;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = user("owner");
+        // Duplicate titles and timestamps, so every non-id sort has ties that only the id breaks
+        task(owner, "Beta", T0.plusSeconds(1));
+        task(owner, "Alpha", T0.plusSeconds(2));
+        task(owner, "Beta", T0.plusSeconds(1));
+        task(owner, "Gamma", T0);
+        task(owner, "Beta", T0.plusSeconds(2));
+        task(user("other"), "Beta", T0.plusSeconds(1));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void seekingPageByPageVisitsEveryRowOnceInIndexOrder() {
+        for (String key : TaskCursor.SORT_KEYS) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                Sort.Order order = new Sort.Order(direction, key);
+                List<Long> expected = ids(taskRepositories.findResponses(TaskSpecifications.ownedBy(owner.getId()),
+                        TaskCursor.indexedSort(order), 100));
+
+                assertThat(expected).as("%s %s", key, direction).hasSize(5).doesNotHaveDuplicates();
+                assertThat(scroll(order, 2)).as("%s %s", key, direction).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void titleTiesAreBrokenByIdInTheSortDirection() {
+        List<TaskResponse> ascending = taskRepositories.findResponses(TaskSpecifications.ownedBy(owner.getId()),
+                TaskCursor.indexedSort(Sort.Order.asc("title")), 100);
+        List<Long> betas = ascending.stream().filter(task -> task.title().equals("Beta")).map(TaskResponse::id)
+                .toList();
+        assertThat(ascending).extracting(TaskResponse::title)
+                .containsExactly("Alpha", "Beta", "Beta", "Beta", "Gamma");
+        assertThat(betas).isSorted();
+
+        // A cursor on the middle "Beta" returns the later Beta before moving on to Gamma
+        TaskCursor cursor = new TaskCursor("title", Sort.Direction.ASC, "Beta", betas.get(1));
+        assertThat(page(cursor, Sort.Order.asc("title"), 100)).extracting(TaskResponse::id)
+                .containsExactly(betas.get(2), ascending.get(4).id());
+
+        cursor = new TaskCursor("title", Sort.Direction.DESC, "Beta", betas.get(1));
+        assertThat(page(cursor, Sort.Order.desc("title"), 100)).extracting(TaskResponse::id)
+                .containsExactly(betas.get(0), ascending.get(0).id());
+    }
+
+    @Test
+    void updatedAtTiesAreBrokenById() {
+        List<TaskResponse> ascending = taskRepositories.findResponses(TaskSpecifications.ownedBy(owner.getId()),
+                TaskCursor.indexedSort(Sort.Order.asc("updatedAt")), 100);
+        TaskResponse firstTied = ascending.get(1);
+        assertThat(ascending.get(2).updatedAt()).isEqualTo(firstTied.updatedAt());
+
+        TaskCursor cursor = TaskCursor.of(firstTied, Sort.Order.asc("updatedAt"));
+        assertThat(page(cursor, Sort.Order.asc("updatedAt"), 100)).extracting(TaskResponse::id)
+                .containsExactlyElementsOf(ids(ascending.subList(2, 5)));
+    }
+
+    @Test
+    void changedSinceResumesWithinATimestampAndStopsAtTheSettleBound() {
+        List<TaskResponse> all = taskRepositories.findChangedSince(owner.getId(), Instant.EPOCH, 0L,
+                T0.plusSeconds(2), PageRequest.of(0, 100));
+        assertThat(all).extracting(TaskResponse::updatedAt).isSorted().hasSize(5);
+
+        // Resuming after the first of two rows at T0 + 1s returns the second one, and nothing
+        // after the bound
+        TaskResponse firstTied = all.get(1);
+        List<TaskResponse> rest = taskRepositories.findChangedSince(owner.getId(), firstTied.updatedAt(),
+                firstTied.id(), T0.plusSeconds(1), PageRequest.of(0, 100));
+        assertThat(rest).extracting(TaskResponse::id).containsExactly(all.get(2).id());
+
+        assertThat(taskRepositories.findChangedSince(null, Instant.EPOCH, 0L, T0.plusSeconds(1),
+                PageRequest.of(0, 100))).hasSize(4);
+    }
+
+    @Test
+    void deletedSinceResumesWithinATimestampAndStopsAtTheSettleBound() {
+        TaskTombstone first = tombstone(10L, T0);
+        TaskTombstone second = tombstone(11L, T0);
+        tombstone(12L, T0.plusSeconds(5));
+
+        assertThat(taskTombstoneRepositories.findDeletedSince(owner.getId(), T0, first.getId(), T0.plusSeconds(1),
+                PageRequest.of(0, 100))).extracting(TaskTombstone::getTaskId).containsExactly(second.getTaskId());
+        assertThat(taskTombstoneRepositories.findDeletedSince(owner.getId(), T0, Long.MAX_VALUE,
+                T0.plusSeconds(5), PageRequest.of(0, 100))).extracting(TaskTombstone::getTaskId)
+                .containsExactly(12L);
+    }
+
+    private List<Long> scroll(Sort.Order order, int size) {
+        List<Long> visited = new ArrayList<>();
+        TaskCursor cursor = null;
+        while (true) {
+            List<TaskResponse> rows = page(cursor, order, size);
+            visited.addAll(ids(rows));
+            if (rows.size() < size) {
+                return visited;
+            }
+            cursor = TaskCursor.of(rows.get(rows.size() - 1), order);
+        }
+    }
+
+    private List<TaskResponse> page(TaskCursor cursor, Sort.Order order, int size) {
+        Specification<Task> spec = TaskSpecifications.ownedBy(owner.getId());
+        if (cursor != null) {
+            spec = spec.and(TaskSpecifications.after(cursor));
+        }
+        return taskRepositories.findResponses(spec, TaskCursor.indexedSort(order), size);
+    }
+
+    private static List<Long> ids(List<TaskResponse> tasks) {
+        return tasks.stream().map(TaskResponse::id).toList();
+    }
+
+    private User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("not-used");
+        user.setRole("USER");
+        return userRepositories.save(user);
+    }
+
+    private TaskTombstone tombstone(Long taskId, Instant deletedAt) {
+        TaskTombstone tombstone = new TaskTombstone();
+        tombstone.setTaskId(taskId);
+        tombstone.setOwnerId(owner.getId());
+        tombstone.setDeletedAt(deletedAt);
+        return taskTombstoneRepositories.save(tombstone);
+    }
+
+    private Task task(User user, String title, Instant updatedAt) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Description of " + title);
+        task.setCreateBy(user);
+        taskRepositories.saveAndFlush(task);
+        // The entity stamps updatedAt itself; pin it so the ties are deterministic
+        entityManager.createQuery("update Task t set t.updatedAt = :updatedAt where t.id = :id")
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("id", task.getId())
+                .executeUpdate();
+        return task;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.todo_app.module.Task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.example.todo_app.module.Task.dto.TaskEvent;
+import com.example.todo_app.module.Task.dto.TaskResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskEventBusTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private TaskEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new TaskEventBus(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(bus, "timeout", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(bus, "subscriberBuffer", 16);
+        ReflectionTestUtils.setField(bus, "replayBufferSize", 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        bus.shutdown();
+    }
+
+    @Test
+    void stalledSubscribersDoNotDelayOthers() throws InterruptedException {
+        // More stalled connections than the old fixed sender pool had threads
+        CountDownLatch stalled = new CountDownLatch(8);
+        for (int i = 0; i < 8; i++) {
+            bus.subscribe(new StalledEmitter(stalled), null, null);
+        }
+        RecordingEmitter healthy = new RecordingEmitter();
+        bus.subscribe(healthy, null, null);
+
+        bus.publish(TaskEvent.created(task(1L)));
+        assertThat(stalled.await(5, TimeUnit.SECONDS)).isTrue();
+        bus.publish(TaskEvent.updated(task(2L)));
+
+        assertThat(healthy.sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(healthy.sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void heartbeatReachesIdleSubscribersWhileOthersAreStalled() throws InterruptedException {
+        CountDownLatch stalled = new CountDownLatch(8);
+        for (int i = 0; i < 8; i++) {
+            bus.subscribe(new StalledEmitter(stalled), null, null);
+        }
+        bus.publish(TaskEvent.created(task(1L)));
+        assertThat(stalled.await(5, TimeUnit.SECONDS)).isTrue();
+
+        RecordingEmitter healthy = new RecordingEmitter();
+        bus.subscribe(healthy, null, null);
+        bus.heartbeat();
+        bus.heartbeat();
+
+        assertThat(healthy.sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    private static TaskResponse task(Long id) {
+        return new TaskResponse(id, "Task " + id, "description", false, 7L, "user7", Instant.EPOCH, 0L);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        final BlockingQueue<SseEventBuilder> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder);
+        }
+    }
+
+    /**
+     * Blocks every send until the test ends, like a client that stopped reading.
+     */
+    private class StalledEmitter extends SseEmitter {
+        private final CountDownLatch entered;
+
+        StalledEmitter(CountDownLatch entered) {
+            this.entered = entered;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.todo_app.module.Task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import com.example.todo_app.config.ServiceUnavailableException;
+import com.example.todo_app.module.Task.dto.TaskEvent;
+import com.example.todo_app.module.Task.dto.TaskResponse;
+import com.example.todo_app.module.Task.dto.TaskSearchResult;
+import com.example.todo_app.module.Task.repository.TaskRepositories;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskSearchIndexTest {
+
+    private static final Long OWNER = 7L;
+
+    private TaskRepositories taskRepositories;
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        taskRepositories = mock(TaskRepositories.class);
+        index = new TaskSearchIndex(taskRepositories, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "maxResults", 100);
+    }
+
+    @Test
+    void tokenizeLowerCasesAndStripsDiacritics() {
+        assertThat(TaskSearchIndex.tokenize("Việc cần làm: ĐI chợ, 2 lần!"))
+                .containsExactly("viec", "can", "lam", "di", "cho", "2", "lan");
+    }
+
+    @Test
+    void tokenizeTruncatesLongTermsAndIgnoresBlankText() {
+        assertThat(TaskSearchIndex.tokenize("a".repeat(50))).containsExactly("a".repeat(40));
+        assertThat(TaskSearchIndex.tokenize(null)).isEmpty();
+        assertThat(TaskSearchIndex.tokenize("  -- ")).isEmpty();
+    }
+
+    @Test
+    void matchScoresExactTermsAboveLongerCompletions() {
+        NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+        postings.put("rep", Map.of(1L, 1));
+        postings.put("report", Map.of(2L, 1));
+        postings.put("reports", Map.of(2L, 1, 3L, 1));
+        postings.put("review", Map.of(4L, 1));
+
+        Map<Long, Double> matches = TaskSearchIndex.match(postings, "rep");
+
+        assertThat(matches).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(matches.get(1L)).isEqualTo(2.0);
+        // Only the best completion counts: "report" beats "reports" for task 2
+        assertThat(matches.get(2L)).isEqualTo(3.0 / 6);
+        assertThat(matches.get(3L)).isEqualTo(3.0 / 7);
+    }
+
+    @Test
+    void searchMatchesPrefixesOfEveryTermAndRanksTitlesFirst() {
+        load(task(1L, "Weekly report", "send to the team", 0L),
+                task(2L, "Call the bank", "ask about the weekly report", 0L),
+                task(3L, "Weekly groceries", "milk and bread", 0L));
+
+        TaskSearchResult result = index.search(OWNER, "week rep", 10);
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.items()).extracting(TaskResponse::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void olderVersionNeverReplacesNewerOne() {
+        load();
+        index.onTaskEvent(TaskEvent.updated(task(1L, "Renamed title", "description", 2L)));
+        index.onTaskEvent(TaskEvent.updated(task(1L, "Original title", "description", 1L)));
+
+        assertThat(index.search(OWNER, "renamed", 10).total()).isEqualTo(1);
+        assertThat(index.search(OWNER, "original", 10).total()).isZero();
+    }
+
+    @Test
+    void newerVersionReplacesTheOldTerms() {
+        load(task(1L, "Original title", "description", 1L));
+        index.onTaskEvent(TaskEvent.updated(task(1L, "Renamed title", "description", 2L)));
+
+        assertThat(index.search(OWNER, "original", 10).total()).isZero();
+        assertThat(index.search(OWNER, "renamed", 10).total()).isEqualTo(1);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void taskDeletedWhileLoadingIsNotIndexedFromTheSnapshot() {
+        TaskResponse deleted = task(1L, "Deleted task", "description", 0L);
+        TaskResponse kept = task(2L, "Kept task", "description", 0L);
+        // The delete commits after the snapshot was taken but before its row is indexed
+        when(taskRepositories.streamResponses(any(), anyInt())).thenReturn(Stream.of(deleted, kept)
+                .peek(task -> {
+                    if (task == deleted) {
+                        index.onTaskEvent(TaskEvent.deleted(deleted.id(), OWNER));
+                    }
+                }));
+        index.loadAll();
+
+        assertThat(index.search(OWNER, "task", 10).items()).extracting(TaskResponse::id).containsExactly(2L);
+    }
+
+    @Test
+    void deleteAfterLoadingDoesNotBlockRecreatedIds() {
+        load(task(1L, "Some task", "description", 0L));
+        index.onTaskEvent(TaskEvent.deleted(1L, OWNER));
+        index.onTaskEvent(TaskEvent.created(task(1L, "Some task", "description", 0L)));
+
+        assertThat(index.search(OWNER, "task", 10).total()).isEqualTo(1);
+    }
+
+    @Test
+    void searchIsUnavailableUntilLoadedOrWhenDisabled() {
+        assertThatThrownBy(() -> index.search(OWNER, "task", 10)).isInstanceOf(ServiceUnavailableException.class);
+
+        load();
+        ReflectionTestUtils.setField(index, "enabled", false);
+        assertThatThrownBy(() -> index.search(OWNER, "task", 10)).isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private void load(TaskResponse... tasks) {
+        when(taskRepositories.streamResponses(any(), anyInt())).thenReturn(Stream.of(tasks));
+        index.loadAll();
+    }
+
+    private static TaskResponse task(Long id, String title, String description, Long version) {
+        return new TaskResponse(id, title, description, false, OWNER, "user7", Instant.EPOCH, version);
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.todo_app.module.Task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.example.todo_app.config.TableStatistics;
+import com.example.todo_app.module.Task.dto.BatchTaskRequest;
+import com.example.todo_app.module.Task.dto.BatchTaskResponse;
+import com.example.todo_app.module.Task.dto.BatchTaskResponse.ItemResult;
+import com.example.todo_app.module.Task.dto.BatchUpdateTaskItem;
+import com.example.todo_app.module.Task.dto.CreateTaskRequest;
+import com.example.todo_app.module.Task.dto.SyncToken;
+import com.example.todo_app.module.Task.dto.TaskChanges;
+import com.example.todo_app.module.Task.model.Task;
+import com.example.todo_app.module.Task.model.TaskTombstone;
+import com.example.todo_app.module.Task.repository.TaskRepositories;
+import com.example.todo_app.module.Task.repository.TaskTombstoneRepositories;
+import com.example.todo_app.module.User.model.User;
+import com.example.todo_app.module.User.repository.UserRepositories;
+
+import tools.jackson.databind.json.JsonMapper;
+
+class TaskServiceTest {
+
+    private static final Long OWNER = 7L;
+
+    private TaskRepositories taskRepositories;
+    private TaskTombstoneRepositories taskTombstoneRepositories;
+    private UserRepositories userRepositories;
+    private TaskStatsService taskStatsService;
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        taskRepositories = mock(TaskRepositories.class);
+        taskTombstoneRepositories = mock(TaskTombstoneRepositories.class);
+        userRepositories = mock(UserRepositories.class);
+        taskStatsService = mock(TaskStatsService.class);
+        taskService = new TaskService(taskRepositories, taskTombstoneRepositories, userRepositories,
+                JsonMapper.builder().build(), mock(ApplicationEventPublisher.class), taskStatsService,
+                mock(TableStatistics.class));
+        ReflectionTestUtils.setField(taskService, "tombstoneRetentionDays", 30L);
+        ReflectionTestUtils.setField(taskService, "syncSettleMillis", 1000L);
+    }
+
+    @Test
+    void initialSyncStopsAtTheSettleBoundAndSkipsPastDeletions() {
+        Instant before = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        TaskChanges changes = taskService.getChanges(OWNER, null, 100);
+        Instant after = Instant.now();
+
+        ArgumentCaptor<Instant> until = ArgumentCaptor.forClass(Instant.class);
+        verify(taskRepositories).findChangedSince(eq(OWNER), eq(Instant.EPOCH), eq(0L), until.capture(), any());
+        verifyNoInteractions(taskTombstoneRepositories);
+        assertThat(until.getValue()).isBetween(before.minusMillis(1000), after.minusMillis(1000));
+
+        // Deletions up to the bound predate the snapshot, so the deletion cursor starts there
+        SyncToken next = SyncToken.decode(changes.nextToken());
+        assertThat(next.deletedAt()).isEqualTo(until.getValue());
+        assertThat(next.deletedId()).isEqualTo(Long.MAX_VALUE);
+        assertThat(changes.resetRequired()).isFalse();
+    }
+
+    @Test
+    void deletionCursorOlderThanRetentionRequiresReset() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        String since = new SyncToken(now.minusSeconds(60), 1, now.minus(Duration.ofDays(31)), 1, now).encode();
+
+        TaskChanges changes = taskService.getChanges(OWNER, since, 100);
+
+        assertThat(changes.resetRequired()).isTrue();
+        assertThat(changes.nextToken()).isNull();
+        verifyNoInteractions(taskRepositories, taskTombstoneRepositories);
+    }
+
+    @Test
+    void oldTokenIsServedWhileItsDeletionCursorIsWithinRetention() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Instant longAgo = now.minus(Duration.ofDays(60));
+        String since = new SyncToken(longAgo, 1, now.minus(Duration.ofDays(29)), 1, longAgo).encode();
+
+        TaskChanges changes = taskService.getChanges(OWNER, since, 100);
+
+        assertThat(changes.resetRequired()).isFalse();
+        verify(taskTombstoneRepositories).findDeletedSince(eq(OWNER), eq(now.minus(Duration.ofDays(29))), eq(1L),
+                any(), any());
+    }
+
+    @Test
+    void deletionCursorStaysOnTheLastTombstoneWhileMoreArePending() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        String since = new SyncToken(now.minusSeconds(60), 1, now.minusSeconds(60), 1, now).encode();
+        TaskTombstone first = tombstone(5L, 50L, now.minusSeconds(30));
+        TaskTombstone second = tombstone(6L, 60L, now.minusSeconds(20));
+        when(taskTombstoneRepositories.findDeletedSince(eq(OWNER), any(), anyLong(), any(), any()))
+                .thenReturn(List.of(first, second));
+
+        TaskChanges changes = taskService.getChanges(OWNER, since, 1);
+
+        assertThat(changes.deleted()).containsExactly(50L);
+        assertThat(changes.hasMore()).isTrue();
+        SyncToken next = SyncToken.decode(changes.nextToken());
+        assertThat(next.deletedAt()).isEqualTo(first.getDeletedAt());
+        assertThat(next.deletedId()).isEqualTo(5L);
+    }
+
+    @Test
+    void limitMustBeBetweenOneAndOneThousand() {
+        assertThatThrownBy(() -> taskService.getChanges(OWNER, null, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.getChanges(OWNER, null, 1001))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void batchReportsEveryItemAndNetsTheStatsPerOwner() {
+        Task open = task(1L, false);
+        Task done = task(2L, true);
+        when(taskRepositories.findAllOwnedByIdForUpdate(any(), eq(OWNER))).thenReturn(List.of(open, done));
+        when(userRepositories.getReferenceById(OWNER)).thenReturn(open.getCreateBy());
+        AtomicLong ids = new AtomicLong(100);
+        when(taskRepositories.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(ids.getAndIncrement()));
+            return tasks;
+        });
+
+        BatchTaskResponse response = taskService.batchTasks(new BatchTaskRequest(
+                List.of(new CreateTaskRequest("New task", "created in a batch", false)),
+                List.of(update(2L, false), update(99L, true)),
+                List.of(2L, 99L, 2L)), OWNER, false);
+
+        assertThat(response.results()).containsExactly(
+                new ItemResult("create", 0, 100L, "created"),
+                new ItemResult("update", 0, 2L, "updated"),
+                new ItemResult("update", 1, 99L, "not_found"),
+                new ItemResult("delete", 0, 2L, "deleted"),
+                new ItemResult("delete", 1, 99L, "not_found"),
+                new ItemResult("delete", 2, 2L, "deleted"));
+        // One task created, task 2 un-completed and then deleted once although it is listed twice
+        verify(taskStatsService).adjust(OWNER, 0, -1);
+        ArgumentCaptor<Iterable<Task>> deleted = ArgumentCaptor.captor();
+        verify(taskRepositories).deleteAllInBatch(deleted.capture());
+        assertThat(deleted.getValue()).containsExactly(done);
+    }
+
+    @Test
+    void taskUpdatedAndDeletedInOneBatchCountsItsFlagAfterTheUpdate() {
+        Task open = task(1L, false);
+        when(taskRepositories.findAllOwnedByIdForUpdate(any(), eq(OWNER))).thenReturn(List.of(open));
+
+        taskService.batchTasks(new BatchTaskRequest(null, List.of(update(1L, true)), List.of(1L)), OWNER, false);
+
+        // Completing it adds one, deleting the now completed task takes it away again
+        verify(taskStatsService).adjust(OWNER, -1, 0);
+        verify(taskStatsService, never()).adjust(eq(OWNER), eq(-1L), eq(-1L));
+    }
+
+    @Test
+    void batchOnlyLocksTheCallersTasksUnlessAdmin() {
+        taskService.batchTasks(new BatchTaskRequest(null, null, List.of(5L)), OWNER, false);
+        taskService.batchTasks(new BatchTaskRequest(null, null, List.of(5L)), OWNER, true);
+
+        verify(taskRepositories).findAllOwnedByIdForUpdate(any(), eq(OWNER));
+        verify(taskRepositories).findAllOwnedByIdForUpdate(any(), eq(null));
+        verifyNoInteractions(taskStatsService);
+    }
+
+    private static Task task(Long id, boolean completed) {
+        User owner = new User();
+        owner.setId(OWNER);
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setDescription("Description " + id);
+        task.setCompleted(completed);
+        task.setCreateBy(owner);
+        task.setVersion(0L);
+        return task;
+    }
+
+    private static BatchUpdateTaskItem update(Long id, boolean completed) {
+        return new BatchUpdateTaskItem(id, "Task " + id + " updated", "Updated description", completed);
+    }
+
+    private static TaskTombstone tombstone(Long id, Long taskId, Instant deletedAt) {
+        TaskTombstone tombstone = new TaskTombstone();
+        tombstone.setId(id);
+        tombstone.setTaskId(taskId);
+        tombstone.setOwnerId(OWNER);
+        tombstone.setDeletedAt(deletedAt);
+        return tombstone;
+    }
+}